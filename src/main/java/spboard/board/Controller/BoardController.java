@@ -1,9 +1,12 @@
 package spboard.board.Controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -14,14 +17,16 @@ import spboard.board.Domain.enum_class.BoardCategory;
 import spboard.board.Domain.Dto.BoardDto;
 import spboard.board.Domain.Dto.BoardCreateRequest;
 import spboard.board.Domain.Dto.BoardSearchRequest;
+import spboard.board.Domain.Dto.BoardSummary;
 import spboard.board.Domain.Dto.CommentCreateRequest;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Domain.entity.Comment;
 import spboard.board.Service.BoardService;
 import spboard.board.Service.CommentService;
 import spboard.board.Service.LikeService;
 import spboard.board.Service.UploadImageService;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 
 @Controller
 @RequestMapping("/boards")
@@ -32,13 +37,16 @@ public class BoardController {
     private final LikeService likeService;
     private final CommentService commentService;
         private final UploadImageService uploadImageService;
+    private final ImageFileSender imageFileSender;
 
     @GetMapping("/{category}")
     public String boardListPage(@PathVariable String category, Model model,
                                 @RequestParam(required = false, defaultValue = "1") int page,
                                 @RequestParam(required = false) String sortType,
                                 @RequestParam(required = false) String searchType,
-                                @RequestParam(required = false) String keyword) {
+                                @RequestParam(required = false) String keyword,
+                                @RequestParam(required = false) String cursor,
+                                Authentication auth) {
         BoardCategory boardCategory = BoardCategory.of(category);
         if (boardCategory == null) {
             model.addAttribute("message", "카테고리가 존재하지 않습니다.");
@@ -60,7 +68,15 @@ public class BoardController {
         }
 
         model.addAttribute("category", category);
-        model.addAttribute("boards", boardService.getBoardList(boardCategory, pageRequest, searchType, keyword));
+        // 이전/다음 페이지는 커서로 이동 => 페이지가 깊어져도 OFFSET만큼 읽고 버리지 않음
+        Page<BoardSummary> boards = boardService.getBoardList(boardCategory, pageRequest, searchType, keyword, cursor);
+        model.addAttribute("boards", boards);
+        model.addAttribute("nextCursor", boardService.getNextCursor(boards));
+        model.addAttribute("prevCursor", boardService.getPrevCursor(boards));
+        if (auth != null) {
+            model.addAttribute("likedBoardIds", likeService.findLikedBoardIds(auth.getName(),
+                    boards.getContent().stream().map(BoardSummary::getId).toList()));
+        }
         model.addAttribute("boardSearchRequest", new BoardSearchRequest(sortType, searchType, keyword));
         return "boards/list";
     }
@@ -81,7 +97,7 @@ public class BoardController {
 
     @PostMapping("/{category}")
     public String boardWrite(@PathVariable String category, @ModelAttribute BoardCreateRequest request,
-                             Authentication auth, Model model) throws IOException {
+                             LoginUser loginUser, Model model) throws IOException {
         BoardCategory boardCategory = BoardCategory.of(category);
         if (boardCategory == null) {
             model.addAttribute("message", "카테고리가 존재하지 않습니다.");
@@ -89,7 +105,7 @@ public class BoardController {
             return "printMessage";
         }
 
-        Long saveBoardId = boardService.writeBoard(request, boardCategory, auth.getName(), auth);
+        Long saveBoardId = boardService.writeBoard(request, boardCategory, loginUser);
         if (boardCategory.equals(BoardCategory.GREETING)) {
             model.addAttribute("message", "가입인사를 작성하여 SILVER 등급으로 승급했습니다!\n이제 자유게시판에 글을 작성할 수 있습니다!");
         } else {
@@ -119,17 +135,20 @@ public class BoardController {
         model.addAttribute("category", category);
 
         model.addAttribute("commentCreateRequest", new CommentCreateRequest());
-        model.addAttribute("commentList", commentService.findAll(boardId));
+        // 첫 페이지만 렌더링하고 나머지는 /api/comments 로 더보기
+        Slice<Comment> comments = commentService.findPage(boardId, null);
+        model.addAttribute("commentList", comments.getContent());
+        model.addAttribute("commentNextCursor", commentService.getNextCursor(comments));
         return "boards/detail";
     }
 
     @PostMapping("/{category}/{boardId}/edit")
     public String boardEdit(@PathVariable String category, @PathVariable Long boardId,
                             @ModelAttribute BoardDto dto,
-                            Authentication auth, Model model) throws IOException {
+                            LoginUser loginUser, Model model) throws IOException {
        try {
 
-           Long editBoardId = boardService.editBoard(boardId, category, dto, auth.getName());
+           Long editBoardId = boardService.editBoard(boardId, category, dto, loginUser);
 
            if (editBoardId == null) {
                model.addAttribute("message", "해당 게시글이 존재하지 않습니다");
@@ -148,7 +167,7 @@ public class BoardController {
 
     @GetMapping("/{category}/{boardId}/delete")
     public String boardDelete(@PathVariable String category, @PathVariable Long boardId,
-                              Authentication auth, Model model) throws IOException {
+                              LoginUser loginUser, Model model) throws IOException {
         if (category.equals("greeting")) {
             model.addAttribute("message", "가입인사는 삭제할 수 없습니다.");
             model.addAttribute("nextUrl", "/boards/greeting");
@@ -156,7 +175,7 @@ public class BoardController {
         }
 
         try {
-            Long deletedBoardId = boardService.deleteBoard(boardId, category, auth.getName());
+            Long deletedBoardId = boardService.deleteBoard(boardId, category, loginUser);
 
             model.addAttribute("message",
                     deletedBoardId == null ? "해당 게시글이 존재하지 않습니다" : deletedBoardId + "번 글이 삭제되었습니다.");
@@ -170,14 +189,24 @@ public class BoardController {
         }
     }
 
-    @ResponseBody
     @GetMapping("/images/{filename}")
-    public Resource showImage(@PathVariable String filename) throws MalformedURLException {
-        return new UrlResource("file:" + uploadImageService.getFullPath(filename));
+    public void showImage(@PathVariable String filename,
+                          @RequestParam(required = false) Integer w,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // 저장 파일명(해시.확장자)만 허용 => 저장소 밖의 파일은 읽지 않음
+        if (filename.contains("/") || filename.contains("\\") || filename.contains("..")) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        // w: 화면에 보여줄 너비 (해당 축소본이 아직 없으면 원본)
+        // 축소본 대신 원본을 보낸 경우는 나중에 같은 주소가 축소본으로 바뀌므로 오래 캐시하지 않음
+        String servedFilename = uploadImageService.resolveFilename(filename, w);
+        boolean immutable = w == null || !servedFilename.equals(filename);
+        imageFileSender.send(servedFilename, immutable, request, response);
     }
 
     @GetMapping("/images/download/{boardId}")
-    public ResponseEntity<UrlResource> downloadImage(@PathVariable Long boardId) throws MalformedURLException {
+    public ResponseEntity<Resource> downloadImage(@PathVariable Long boardId) throws IOException {
         return uploadImageService.downloadImage(boardId);
 
     }
@@ -1,11 +1,11 @@
 package spboard.board.Controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import spboard.board.Domain.Dto.CommentCreateRequest;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Service.BoardService;
 import spboard.board.Service.CommentService;
 
@@ -19,8 +19,8 @@ public class CommentController {
 
     @PostMapping("/{boardId}")
     private String addComments(@PathVariable Long boardId, @ModelAttribute CommentCreateRequest request,
-                               Authentication auth, Model model) {
-        commentService.writeComment(boardId, request, auth.getName());
+                               LoginUser loginUser, Model model) {
+        commentService.writeComment(boardId, request, loginUser);
 
         model.addAttribute("message", "댓글이 추가되었습니다.");
         model.addAttribute("nextUrl", "/boards/" + boardService.getCategory(boardId) + "/" + boardId);
@@ -29,9 +29,9 @@ public class CommentController {
 
     @PostMapping("/{commentId}/edit")
     public String editComment(@PathVariable Long commentId, @ModelAttribute CommentCreateRequest request,
-                            Authentication auth, Model model) {
+                            LoginUser loginUser, Model model) {
         try {
-            Long boardId = commentService.editComment(commentId, request.getBody(), auth.getName());
+            Long boardId = commentService.editComment(commentId, request.getBody(), loginUser);
 
             if (boardId == null) {
                 model.addAttribute("message", "댓글이 존재하지 않습니다.");
@@ -50,9 +50,9 @@ public class CommentController {
     }
 
     @GetMapping("/{commentId}/delete")
-    public String deleteComment(@PathVariable Long commentId, Authentication auth, Model model) {
+    public String deleteComment(@PathVariable Long commentId, LoginUser loginUser, Model model) {
         try {
-            Long boardId = commentService.deleteComment(commentId, auth.getName());
+            Long boardId = commentService.deleteComment(commentId, loginUser);
 
             if (boardId == null) {
                 model.addAttribute("message", "댓글이 존재하지 않습니다.");
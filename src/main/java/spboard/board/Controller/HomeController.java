@@ -4,20 +4,18 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import spboard.board.Service.BoardService;
-import spboard.board.Service.UserService;
+import spboard.board.Service.StatisticsService;
 
 @Controller
 @RequiredArgsConstructor
 public class HomeController {
 
-    private final UserService userService;
-    private final BoardService boardService;
+    private final StatisticsService statisticsService;
 
     @GetMapping(value = {"", "/"}) // {"", "/"} → 빈 문자열("")과 루트("/") 둘 다 매핑
     public String home(Model model) {
-        model.addAttribute("userCntDto", userService.getUserCnt());
-        model.addAttribute("boardCntDto", boardService.getBoardCnt());
+        model.addAttribute("userCntDto", statisticsService.getUserCnt());
+        model.addAttribute("boardCntDto", statisticsService.getBoardCnt());
         return "home";
     }
 }
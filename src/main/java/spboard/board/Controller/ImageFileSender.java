@@ -0,0 +1,188 @@
+package spboard.board.Controller;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import spboard.board.Service.storage.ImageStorage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 업로드 이미지 파일 응답
+// - 저장 파일명(내용 해시)이 바뀌지 않으므로 파일명을 강한 ETag 로 쓰고 1년 + immutable 캐시
+// - Range 요청(bytes=a-b, a-, -n 한 구간)은 206, 범위를 벗어나면 416
+// - 본문은 로컬 저장소면 Tomcat sendfile(커널이 직접 전송) 또는 FileChannel.transferTo, 그 외 저장소는 요청 구간만 열어서 스트림 복사
+@Component
+public class ImageFileSender {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String CACHE_CONTROL_SHORT = "public, max-age=60";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorage imageStorage;
+    private final Counter notModified;
+    private final Counter partial;
+
+    public ImageFileSender(ImageStorage imageStorage, MeterRegistry meterRegistry) {
+        this.imageStorage = imageStorage;
+        this.notModified = Counter.builder("board.image.response")
+                .tag("status", "304")
+                .register(meterRegistry);
+        this.partial = Counter.builder("board.image.response")
+                .tag("status", "206")
+                .register(meterRegistry);
+    }
+
+    // immutable = false : 같은 주소의 내용이 바뀔 수 있는 경우 (축소본 대신 원본을 보낸 경우) => 짧게 캐시
+    public void send(String filename, boolean immutable,
+                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length;
+        try {
+            length = imageStorage.size(filename);
+        } catch (NoSuchFileException | IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String etag = "\"" + filename + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? CACHE_CONTROL : CACHE_CONTROL_SHORT);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 브라우저에 이미 같은 파일이 있으면 본문 없이 304
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        // If-Range 가 다른 파일을 가리키면 Range 를 무시하고 전체 전송
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                partial.increment();
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        Path file = imageStorage.localPath(filename).orElse(null);
+        if (file == null) {
+            try (InputStream in = imageStorage.open(filename, start, end)) {
+                long copied = 0;
+                byte[] buffer = new byte[8192];
+                OutputStream out = response.getOutputStream();
+                while (copied < count) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, count - copied));
+                    if (read < 0) {
+                        break;
+                    }
+                    out.write(buffer, 0, read);
+                    copied += read;
+                }
+            }
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // {start, end} : 한 구간, {} : 지원하지 않는 형식(여러 구간 등) => 전체 전송, null : 범위 밖 => 416
+    private static long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // bytes=-n : 마지막 n 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
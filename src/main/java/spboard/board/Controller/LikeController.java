@@ -1,10 +1,10 @@
 package spboard.board.Controller;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Service.BoardService;
 import spboard.board.Service.LikeService;
 
@@ -19,18 +19,18 @@ public class LikeController {
     @PostMapping("/add/{boardId}")
     public String addLike(@PathVariable Long boardId,
                           @RequestParam String category,
-                          Authentication auth,
+                          LoginUser loginUser,
                           Model model) {
-        likeService.addLike(auth.getName(), boardId);
+        likeService.addLike(loginUser.id(), loginUser.loginId(), boardId);
         return "redirect:/boards/" + boardService.getCategory(boardId) + "/" + boardId;
     }
 
     @PostMapping("/delete/{boardId}")
     public String deleteLike(@PathVariable Long boardId,
                              @RequestParam String category,
-                             Authentication auth,
+                             LoginUser loginUser,
                              Model model) {
-        likeService.deleteLike(auth.getName(), boardId);
+        likeService.deleteLike(loginUser.id(), loginUser.loginId(), boardId);
         return "redirect:/boards/" + boardService.getCategory(boardId) + "/" + boardId;
     }
 }
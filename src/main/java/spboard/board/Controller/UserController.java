@@ -12,10 +12,12 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import spboard.board.Domain.entity.User;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Domain.Dto.UserDto;
 import spboard.board.Domain.Dto.UserJoinRequest;
 import spboard.board.Service.BoardService;
 import spboard.board.Service.UserService;
+import spboard.board.config.auth.PasswordHashBusyException;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
@@ -41,7 +43,13 @@ public class UserController {
             return "users/join";
         }
 
-        userService.join(request);
+        try {
+            userService.join(request);
+        } catch (PasswordHashBusyException e) {
+            model.addAttribute("message", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            model.addAttribute("nextUrl", "/users/join");
+            return "printMessage";
+        }
         model.addAttribute("message", "회원가입에 성공했습니다!\n로그인 후 사용 가능합니다!");
         model.addAttribute("nextUrl", "/users/login");
         return "printMessage";
@@ -60,44 +68,57 @@ public class UserController {
     }
 
     @GetMapping("/myPage/{category}")
-    public String myPage(@PathVariable String category, Authentication auth, Model model ) {
-        model.addAttribute("boards", boardService.findMyBoard(category, auth.getName()));
+    public String myPage(@PathVariable String category, LoginUser loginUser, Model model ) {
+        model.addAttribute("boards", boardService.findMyBoard(category, loginUser.loginId()));
         model.addAttribute("category", category);
-        model.addAttribute("user", userService.myInfo(auth.getName()));
+        model.addAttribute("user", userService.myInfo(loginUser));
         return "users/myPage";
     }
 
     @GetMapping("/edit")
-    public String userEditPage(Authentication auth, Model model) {
-        User user = userService.myInfo(auth.getName());
+    public String userEditPage(LoginUser loginUser, Model model) {
+        User user = userService.myInfo(loginUser);
         model.addAttribute("userDto", UserDto.of(user));
         return "users/edit";
     }
 
     @PostMapping("/edit")
     public String userEdit(@Valid @ModelAttribute UserDto dto, BindingResult bindingResult, Authentication auth, Model model) {
-        // Validation
-        if (userService.editValid(dto, bindingResult, auth.getName()).hasErrors()) {
-            return "users/edit";
+        try {
+            // Validation
+            if (userService.editValid(dto, bindingResult, auth.getName()).hasErrors()) {
+                return "users/edit";
+            }
+
+            userService.edit(dto, auth.getName());
+        } catch (PasswordHashBusyException e) {
+            model.addAttribute("message", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            model.addAttribute("nextUrl", "/users/edit");
+            return "printMessage";
         }
 
-        userService.edit(dto, auth.getName());
-
         model.addAttribute("message", "정보가 수정되었습니다.");
         model.addAttribute("nexUrl", "/users/myPage/board");
         return "printMessage";
     }
 
     @GetMapping("/delete")
-    private String userDeletePage(Authentication auth, Model model) {
-        User user = userService.myInfo(auth.getName());
+    private String userDeletePage(LoginUser loginUser, Model model) {
+        User user = userService.myInfo(loginUser);
         model.addAttribute("userDto", UserDto.of(user));
         return "users/delete";
     }
 
     @PostMapping("/delete")
     public String userDelete(@ModelAttribute UserDto dto, Authentication auth, Model model) {
-        Boolean deleteSuccess = userService.delete(auth.getName(), dto.getNowPassword());
+        Boolean deleteSuccess;
+        try {
+            deleteSuccess = userService.delete(auth.getName(), dto.getNowPassword());
+        } catch (PasswordHashBusyException e) {
+            model.addAttribute("message", "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            model.addAttribute("nextUrl", "/users/delete");
+            return "printMessage";
+        }
         if(deleteSuccess) {
             model.addAttribute("message", "탈퇴 되었습니다.");
             model.addAttribute("nextUrl", "/users/logout");
@@ -0,0 +1,53 @@
+package spboard.board.Controller.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import spboard.board.Domain.Dto.CommentDto;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Domain.MapperDTO.BoardMeta;
+import spboard.board.Domain.entity.Comment;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Service.BoardCache;
+import spboard.board.Service.CommentService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/comments")
+public class CommentApiController {
+    private final CommentService commentService;
+    private final BoardCache boardCache;
+
+    // 상세 화면 댓글 더보기 (cursor: 화면에 마지막으로 보인 댓글 id)
+    @GetMapping("/{boardId}")
+    public ResponseEntity<Map<String, Object>> comments(@PathVariable Long boardId,
+                                                        @RequestParam(required = false) Long cursor,
+                                                        LoginUser loginUser) {
+        BoardMeta meta = boardCache.findMeta(boardId).orElse(null);
+        if (meta == null) {
+            return ResponseEntity.notFound().build();
+        }
+        // 등업 게시판 글의 댓글은 /boards/gold/** 와 같이 GOLD, ADMIN 만
+        if (meta.category() == BoardCategory.GOLD && (loginUser == null
+                || (loginUser.role() != UserRole.GOLD && !loginUser.isAdmin()))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Slice<Comment> comments = commentService.findPage(boardId, cursor);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("comments", comments.getContent().stream().map(CommentDto::of).toList());
+        result.put("nextCursor", commentService.getNextCursor(comments));
+        return ResponseEntity.ok(result);
+    }
+}
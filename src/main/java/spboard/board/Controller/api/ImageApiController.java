@@ -0,0 +1,97 @@
+package spboard.board.Controller.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Service.BoardNotFoundException;
+import spboard.board.Service.UploadBusyException;
+import spboard.board.Service.UploadImageService;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+// 게시글 이미지 업로드 (본문 = 이미지 바이트 그대로, multipart 아님)
+// ex) PUT /api/images/12?filename=cat.png  Content-Type: image/png
+// 본문은 업로드 풀이 읽으면서 바로 저장소(ImageStorage)로 보내고, 요청 스레드는 업로드가 끝날 때까지 잡혀있지 않음
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/images")
+public class ImageApiController {
+    private final UploadImageService uploadImageService;
+
+    @PutMapping(value = "/{boardId}", consumes = "image/*")
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadImage(@PathVariable Long boardId,
+                                                                              @RequestParam String filename,
+                                                                              HttpServletRequest request,
+                                                                              LoginUser loginUser) throws IOException {
+        Map<String, Object> result = new HashMap<>();
+
+        if (loginUser == null) {
+            result.put("success", false);
+            result.put("message", "로그인이 필요합니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(result));
+        }
+
+        // 확장자가 저장 key 에 들어가므로 본문을 받기 전에 확인
+        if (!uploadImageService.isAllowedFilename(filename)) {
+            result.put("success", false);
+            result.put("message", "지원하지 않는 파일명입니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(result));
+        }
+
+        // part 로 나눠 보내려면 전체 크기를 미리 알아야 함 (chunked 전송은 받지 않음)
+        long contentLength = request.getContentLengthLong();
+        if (contentLength <= 0) {
+            result.put("success", false);
+            result.put("message", "Content-Length 가 필요합니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).body(result));
+        }
+        if (contentLength > uploadImageService.getMaxSizeBytes()) {
+            result.put("success", false);
+            result.put("message", "파일이 너무 큽니다.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(result));
+        }
+
+        try {
+            return uploadImageService.uploadBoardImage(boardId, request.getInputStream(), contentLength,
+                            request.getContentType(), filename, loginUser)
+                    .thenApply(uploadImage -> {
+                        result.put("success", true);
+                        result.put("uploadImageId", uploadImage.getId());
+                        result.put("savedFilename", uploadImage.getSavedFilename());
+                        return ResponseEntity.ok(result);
+                    })
+                    .exceptionally(e -> {
+                        // 업로드 중에 게시글이 삭제된 경우
+                        if (e.getCause() instanceof BoardNotFoundException) {
+                            return notFound(result);
+                        }
+                        throw e instanceof CompletionException completionException
+                                ? completionException : new CompletionException(e);
+                    });
+        } catch (BoardNotFoundException e) {
+            return CompletableFuture.completedFuture(notFound(result));
+        } catch (UploadBusyException e) {
+            // 동시 업로드가 가득 찬 경우 => 잠시 후 다시 시도
+            result.put("success", false);
+            result.put("message", "업로드가 많아 잠시 후 다시 시도해주세요.");
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result));
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> notFound(Map<String, Object> result) {
+        result.put("success", false);
+        result.put("message", "게시글이 없습니다.");
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+    }
+}
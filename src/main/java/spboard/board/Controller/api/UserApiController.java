@@ -5,6 +5,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import spboard.board.Service.UserService;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,4 +20,20 @@ public class UserApiController {
 
         return ResponseEntity.ok(Map.of("isAvailable", !isDuplicate));
     }
+
+    // 관리자 검색창 자동완성 (아이디/닉네임 접두어, ADMIN 전용)
+    // limit 는 1 ~ 20 으로 맞춤
+    @GetMapping("/admin/suggest")
+    public ResponseEntity<List<Map<String, Object>>> suggest(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        List<Map<String, Object>> result = userService.suggest(q, Math.max(1, Math.min(limit, 20))).stream()
+                .map(user -> Map.<String, Object>of(
+                        "id", user.getId(),
+                        "loginId", user.getLoginId(),
+                        "nickname", user.getNickname(),
+                        "userRole", user.getUserRole()))
+                .toList();
+
+        return ResponseEntity.ok(result);
+    }
 }
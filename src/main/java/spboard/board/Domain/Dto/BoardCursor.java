@@ -0,0 +1,78 @@
+package spboard.board.Domain.Dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+// 게시글 목록 keyset(seek) 페이지네이션에 사용되는 커서
+// 화면에는 Base64로 인코딩된 문자열로만 노출되고, 서버에서만 해석
+public class BoardCursor {
+
+    private final boolean next;     // true: 다음 페이지, false: 이전 페이지
+    private final String orderBy;   // 정렬 컬럼 (id, created_at, like_cnt, comment_cnt)
+    private final Object sortKey;   // 기준 글의 정렬 컬럼 값
+    private final Long id;          // 기준 글의 id (정렬 값이 같을 때 tie-breaker)
+
+    // 현재 페이지의 마지막 글 다음부터 조회
+    public static BoardCursor next(String orderBy, BoardSummary board) {
+        return new BoardCursor(true, orderBy, sortKeyOf(orderBy, board), board.getId());
+    }
+
+    // 현재 페이지의 첫 글 이전부터 조회
+    public static BoardCursor prev(String orderBy, BoardSummary board) {
+        return new BoardCursor(false, orderBy, sortKeyOf(orderBy, board), board.getId());
+    }
+
+    public String encode() {
+        String raw = (next ? "n" : "p") + "|" + orderBy + "|" + sortKey + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 커서는 null을 돌려주고, 호출하는 쪽에서 OFFSET 방식으로 처리
+    public static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !(parts[0].equals("n") || parts[0].equals("p"))) {
+                return null;
+            }
+
+            String orderBy = parts[1];
+            Object sortKey = parseSortKey(orderBy, parts[2]);
+            if (sortKey == null) {
+                return null;
+            }
+            return new BoardCursor(parts[0].equals("n"), orderBy, sortKey, Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object sortKeyOf(String orderBy, BoardSummary board) {
+        return switch (orderBy) {
+            case "created_at" -> board.getCreatedAt();
+            case "like_cnt" -> board.getLikeCnt();
+            case "comment_cnt" -> board.getCommentCnt();
+            default -> board.getId();
+        };
+    }
+
+    private static Object parseSortKey(String orderBy, String value) {
+        return switch (orderBy) {
+            case "id" -> Long.parseLong(value);
+            case "created_at" -> LocalDateTime.parse(value);
+            case "like_cnt", "comment_cnt" -> Integer.parseInt(value);
+            default -> null; // 허용하지 않는 컬럼 (ORDER BY에 그대로 들어가므로 반드시 막아야 함)
+        };
+    }
+}
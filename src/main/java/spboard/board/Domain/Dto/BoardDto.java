@@ -19,6 +19,7 @@ public class BoardDto {
     private String title;
     private String body;
     private Integer likeCnt;
+    private Integer commentCnt;
     private LocalDateTime createdAt;
     private LocalDateTime lastModifiedAt;
     private MultipartFile newImage;
@@ -36,6 +37,7 @@ public class BoardDto {
                 .createdAt(board.getCreatedAt())
                 .lastModifiedAt(board.getLastModifiedAt())
                 .likeCnt(board.getLikeCnt() != null ? board.getLikeCnt() : 0)
+                .commentCnt(board.getCommentCnt() != null ? board.getCommentCnt() : 0)
                 .uploadImage(board.getUploadImage())
                 .build();
     }
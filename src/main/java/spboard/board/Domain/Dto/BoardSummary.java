@@ -0,0 +1,24 @@
+package spboard.board.Domain.Dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import spboard.board.Domain.enum_class.BoardCategory;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+// 게시글 목록, 마이페이지 목록에 출력되는 값만 담는 DTO (본문, 이미지 제외)
+// 본문은 상세 페이지(findById)에서만 조회
+public class BoardSummary {
+
+    private Long id;
+    private String title;
+    private BoardCategory category;
+    private Integer likeCnt;
+    private Integer commentCnt;
+    private LocalDateTime createdAt;
+    private String nickname; // 작성자 닉네임
+}
@@ -0,0 +1,29 @@
+package spboard.board.Domain.Dto;
+
+import lombok.Builder;
+import lombok.Data;
+import spboard.board.Domain.entity.Comment;
+
+import java.time.LocalDateTime;
+
+// 댓글 더보기(JSON) 응답용
+@Data
+@Builder
+public class CommentDto {
+
+    private Long id;
+    private String body;
+    private String userLoginId;
+    private String userNickname;
+    private LocalDateTime createdAt;
+
+    public static CommentDto of(Comment comment) {
+        return CommentDto.builder()
+                .id(comment.getId())
+                .body(comment.getBody())
+                .userLoginId(comment.getUser().getLoginId())
+                .userNickname(comment.getUser().getNickname())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package spboard.board.Domain.Dto;
+
+import spboard.board.Domain.entity.User;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Domain.enum_class.UserStatus;
+
+// 요청마다 필요한 로그인 유저 정보 (LoginUserCache 에서 짧게 캐시)
+// 컨트롤러 파라미터에 LoginUser 를 선언하면 LoginUserArgumentResolver 가 채워줌 (비로그인이면 null)
+public record LoginUser(Long id, String loginId, String nickname, UserRole role, UserStatus status) {
+
+    public static LoginUser of(User user) {
+        return new LoginUser(user.getId(), user.getLoginId(), user.getNickname(), user.getUserRole(), user.getStatus());
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    // 게시글/댓글 작성자 참조용
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .loginId(loginId)
+                .nickname(nickname)
+                .userRole(role)
+                .status(status)
+                .build();
+    }
+}
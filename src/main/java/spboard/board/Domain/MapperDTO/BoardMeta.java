@@ -0,0 +1,6 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.BoardCategory;
+
+// 존재 여부 / 작성자 / 카테고리 확인용 (본문, 이미지 조인 없이)
+public record BoardMeta(Long boardId, BoardCategory category, Long userId) {}
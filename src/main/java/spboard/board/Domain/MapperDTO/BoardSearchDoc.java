@@ -0,0 +1,14 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.BoardCategory;
+
+// 검색 인덱스 재구성 시 스트리밍으로 읽어오는 행
+public record BoardSearchDoc(
+        Long boardId,
+        BoardCategory category,
+        Long userId,
+        String title,
+        String body,
+        String nickname
+) {
+}
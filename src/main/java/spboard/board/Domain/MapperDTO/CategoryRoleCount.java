@@ -0,0 +1,8 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+
+// board_count를 카테고리 x 작성자 등급으로 묶은 글 수
+public record CategoryRoleCount(BoardCategory category, UserRole userRole, long cnt) {
+}
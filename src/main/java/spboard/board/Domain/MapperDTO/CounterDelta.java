@@ -0,0 +1,13 @@
+package spboard.board.Domain.MapperDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 모아둔 카운트 변화량을 한번에 반영할 때 사용 (id별 +/- delta)
+@Getter
+@AllArgsConstructor
+public class CounterDelta {
+
+    private final Long id;
+    private final long delta;
+}
@@ -0,0 +1,9 @@
+package spboard.board.Domain.MapperDTO;
+
+// 탈퇴 후처리 한 묶음에서 읽어오는 like/comment 행 (authorId: 글 작성자, 댓글 단계에서는 사용 안 함)
+public record DeletionChunkRow(
+        Long id,
+        Long boardId,
+        Long authorId
+) {
+}
@@ -0,0 +1,19 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.UserRole;
+
+// 승급 판단에 필요한 유저 상태 (PromotionEngine 이 메모리에 들고 있음)
+public record PromotionState(
+        Long userId,
+        String loginId,
+        UserRole role,
+        long receivedLike
+) {
+    public PromotionState withReceivedLike(long receivedLike) {
+        return new PromotionState(userId, loginId, role, receivedLike);
+    }
+
+    public PromotionState withRole(UserRole role) {
+        return new PromotionState(userId, loginId, role, receivedLike);
+    }
+}
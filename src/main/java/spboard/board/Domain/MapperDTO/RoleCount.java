@@ -0,0 +1,7 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.UserRole;
+
+// 등급별 ACTIVE 유저 수
+public record RoleCount(UserRole userRole, long cnt) {
+}
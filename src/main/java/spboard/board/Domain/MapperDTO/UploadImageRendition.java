@@ -0,0 +1,9 @@
+package spboard.board.Domain.MapperDTO;
+
+// 업로드 이미지의 축소본 (원본 하나에 width 별로 한 행)
+public record UploadImageRendition(
+        Long uploadImageId,
+        Integer width,
+        String savedFilename
+) {
+}
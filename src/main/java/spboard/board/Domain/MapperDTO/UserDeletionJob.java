@@ -0,0 +1,11 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.DeletionJobPhase;
+
+// 탈퇴 후처리 진행 상황 (lastId: 현재 단계에서 마지막으로 반영한 like/comment id)
+public record UserDeletionJob(
+        Long userId,
+        DeletionJobPhase phase,
+        Long lastId
+) {
+}
@@ -0,0 +1,12 @@
+package spboard.board.Domain.MapperDTO;
+
+import spboard.board.Domain.enum_class.UserStatus;
+
+// 유저 이름 인덱스 재구성 시 스트리밍으로 읽어오는 행
+public record UserNameDoc(
+        Long userId,
+        String loginId,
+        String nickname,
+        UserStatus status
+) {
+}
@@ -4,14 +4,16 @@ import lombok.*;
 
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 public class UploadImage {
 
     private Long id;
 
-    private String originalFilename; // 원본 파일명
-    private String savedFilename; // 서버에 저장된 파일명
+    private String originalFilename; // 원본 파일명 (게시글에서 읽을 때는 board.upload_image_name)
+    private String savedFilename; // 서버에 저장된 파일명 (내용의 SHA-256 + 세대 + 확장자)
+    private String contentHash; // 내용의 SHA-256 (같은 내용이면 같은 행을 함께 씀)
+    private Integer refCount; // 이 이미지를 쓰는 게시글 수 (0이 되면 파일 삭제)
 
 }
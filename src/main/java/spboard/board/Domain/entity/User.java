@@ -1,21 +1,15 @@
 package spboard.board.Domain.entity;
 
 import lombok.*;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import spboard.board.Domain.enum_class.UserRole;
 import spboard.board.Domain.enum_class.UserStatus;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 public class User {
@@ -38,23 +32,6 @@ public class User {
     private List<Like> likes;
     private List<Comment> comments;
 
-    public void rankUp(UserRole userRole, Authentication auth) {
-        this.userRole = userRole;
-
-        // 현재 저장되어 있는 Authentication 수정 => 재로그인 하지 않아도 권한 수정 되기 위함
-        List<GrantedAuthority> updatedAuthorities = new ArrayList<>();
-        updatedAuthorities.add(new SimpleGrantedAuthority(userRole.name()));
-        Authentication newAuth = new UsernamePasswordAuthenticationToken(auth.getPrincipal(), auth.getCredentials(), updatedAuthorities);
-        SecurityContextHolder.getContext().setAuthentication(newAuth);
-    }
-
-    public void likeChange(Integer receivedLikeCnt) {
-        this.receivedLikeCnt = receivedLikeCnt;
-        if (this.receivedLikeCnt >= 10 && this.userRole.equals(UserRole.SILVER)) {
-            this.userRole = UserRole.GOLD;
-        }
-    }
-
     public void edit(String newPassword, String newNickname) {
         this.password = newPassword;
         this.nickname = newNickname;
@@ -0,0 +1,6 @@
+package spboard.board.Domain.enum_class;
+
+// 탈퇴 후처리 단계 (LIKE => COMMENT => DONE 순서로 진행)
+public enum DeletionJobPhase {
+    LIKE, COMMENT, DONE
+}
@@ -0,0 +1,8 @@
+package spboard.board.Domain.event;
+
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+
+// 글 작성 트랜잭션 안에서 발행 (가입인사 승급은 같은 트랜잭션에서 처리)
+public record BoardWrittenEvent(Long userId, String loginId, UserRole role, BoardCategory category) {
+}
@@ -0,0 +1,5 @@
+package spboard.board.Domain.event;
+
+// 좋아요 추가(+1) / 취소(-1) 커밋 후 PromotionEngine 이 받음
+public record LikeChangedEvent(Long authorId, Long likerId, int delta) {
+}
@@ -0,0 +1,35 @@
+package spboard.board.Repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import spboard.board.Domain.MapperDTO.CategoryRoleCount;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+
+import java.util.List;
+
+// 카테고리 x 작성자 등급 x 작성자 상태별 게시글 수 (board_count 테이블)
+@Mapper
+public interface BoardCountMapper {
+
+    // 작성자의 현재 등급/상태 칸에 delta 반영
+    int addForAuthor(@Param("category") BoardCategory category,
+                     @Param("userId") Long userId,
+                     @Param("delta") int delta);
+
+    // 한 유저가 작성한 글 전체를 현재 등급/상태 칸에서 sign(+1/-1)만큼 반영
+    int addAllForUser(@Param("userId") Long userId, @Param("sign") int sign);
+
+    // 여러 유저를 한번에 (자동 승급)
+    int addAllForUsers(@Param("userIds") List<Long> userIds, @Param("sign") int sign);
+
+    long sumByCategoryExcludeRole(@Param("category") BoardCategory category,
+                                  @Param("excludeRole") UserRole excludeRole);
+
+    // 홈 화면 통계용 (작성자 상태 무관)
+    List<CategoryRoleCount> sumGroupByCategoryAndRole();
+
+    // 정합성 보정용
+    int deleteAll();
+    int insertFromBoard();
+}
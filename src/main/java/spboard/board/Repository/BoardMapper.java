@@ -2,7 +2,12 @@ package spboard.board.Repository;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+import spboard.board.Domain.Dto.BoardSummary;
 import spboard.board.Domain.MapperDTO.BoardDeleteMeta;
+import spboard.board.Domain.MapperDTO.BoardMeta;
+import spboard.board.Domain.MapperDTO.BoardSearchDoc;
+import spboard.board.Domain.MapperDTO.CounterDelta;
 import spboard.board.Domain.entity.Board;
 import spboard.board.Domain.enum_class.BoardCategory;
 import spboard.board.Domain.enum_class.UserRole;
@@ -14,7 +19,7 @@ import java.util.Optional;
 @Mapper
 public interface BoardMapper {
 
-    List<Board> findPageByCategoryExcludeRole(
+    List<BoardSummary> findPageByCategoryExcludeRole(
             @Param("category")BoardCategory category,
             @Param("excludeRole")UserRole excludeRole,  // ADMIN 제외
             @Param("searchType") String searchType,
@@ -24,6 +29,20 @@ public interface BoardMapper {
             @Param("limit") int limit
     );
 
+    // keyset(seek) 방식: 커서 글(sortKey, cursorId) 다음/이전 limit개
+    // 이전 페이지(next = false)는 오름차순으로 조회되므로 호출하는 쪽에서 뒤집어야 함
+    List<BoardSummary> findPageByCategoryExcludeRoleSeek(
+            @Param("category") BoardCategory category,
+            @Param("excludeRole") UserRole excludeRole,
+            @Param("searchType") String searchType,
+            @Param("keyword") String keyword,
+            @Param("orderBy") String orderBy,
+            @Param("next") boolean next,
+            @Param("sortKey") Object sortKey,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
     long countPageByCategoryExcludeRole(
             @Param("category") BoardCategory category,
             @Param("excludeRole") UserRole excludeRole,
@@ -31,34 +50,46 @@ public interface BoardMapper {
             @Param("keyword") String keyword
     );
 
-    Optional<Board> findById(@Param("id") Long id);
-
-    // 공지글(ADMINT)만
-    List<Board> findAllByCategoryAndUserRole(
-            @Param("category") BoardCategory category,
-            @Param("userRole") UserRole userRole
+    // 검색 인덱스가 찾은 후보 id 중 목록 조건(ADMIN 제외, ACTIVE)을 만족하는 글만 페이지 단위로
+    List<BoardSummary> findPageByIdsExcludeRole(
+            @Param("ids") List<Long> ids,
+            @Param("excludeRole") UserRole excludeRole,
+            @Param("orderBy") String orderBy,
+            @Param("offset") int offset,
+            @Param("limit") int limit
     );
 
-    long countAllByUserRole(@Param("userRole") UserRole userRole);
+    long countByIdsExcludeRole(@Param("ids") List<Long> ids, @Param("excludeRole") UserRole excludeRole);
+
+    // 검색 인덱스 재구성용 (MySQL 스트리밍 조회)
+    void streamAllForSearchIndex(ResultHandler<BoardSearchDoc> handler);
+
+    Optional<Board> findById(@Param("id") Long id);
 
-    long countAllByCategoryExcludeRole(
+    // 공지글(ADMINT)만, limit이 null이면 전체
+    List<BoardSummary> findAllByCategoryAndUserRole(
             @Param("category") BoardCategory category,
-            @Param("excludeRole") UserRole userRole
+            @Param("userRole") UserRole userRole,
+            @Param("limit") Integer limit
     );
 
-    long countBoard();
+    long countAllByUserRole(@Param("userRole") UserRole userRole);
 
     // 기본 CRUD
     int insert(Board board);
     int update(Board board);
     int deleteById(@Param("id") Long id);
-    int updateUploadImageId(@Param("boardId") Long boardId, @Param("uploadImageId") Long uploadImageId);
+    int updateUploadImageId(@Param("boardId") Long boardId, @Param("uploadImageId") Long uploadImageId,
+                            @Param("originalFilename") String originalFilename);
     int updateContent(@Param("id") Long id,
                       @Param("title") String title,
                       @Param("body") String body,
                       @Param("lastModifiedAt")LocalDateTime lastModifiedAt
                       );
 
+    // 작성자가 탈퇴한 글은 findById 와 마찬가지로 없는 글로 취급
+    Optional<BoardMeta> findMetaById(@Param("id") Long id);
+
     Optional<BoardDeleteMeta> findDeleteMetaById(@Param("id") Long id);
 
     int updateLikeCnt(@Param("id") Long id, @Param("likeCnt") int likeCnt);
@@ -67,17 +98,21 @@ public interface BoardMapper {
     int incrementCommentCount(@Param("id") Long id);
     int decrementCommentCount(@Param("id") Long id);
 
-    int incrementLikeCount(@Param("id") Long id);
-    int decrementLikeCount(@Param("id") Long id);
-    List<Board> findAllByUserLoginId(@Param("loginId") String loginId);
-
-    List<Board> findBoardsLikedByUser(@Param("loginId") String loginId);
-    List<Board> findBoardsCommentByUser(@Param("loginId") String loginId);
+    List<BoardSummary> findAllByUserLoginId(@Param("loginId") String loginId);
 
-    int decreaseLikeCountByUser(@Param("loginId") String loginId);
-    int decreaseCommentCountByUser(@Param("loginId") String loginId);
+    List<BoardSummary> findBoardsLikedByUser(@Param("loginId") String loginId);
+    List<BoardSummary> findBoardsCommentByUser(@Param("loginId") String loginId);
 
     int getLikeCount(@Param("boardId") Long id);
 
     void updateLikeCount(@Param("boardId") Long boardId, @Param("amount") int amount);
+
+    // write-behind 모드: 모아둔 좋아요 수 변화량을 여러 글에 한번에 반영
+    int updateLikeCountBatch(@Param("deltas") List<CounterDelta> deltas);
+
+    // 탈퇴 후처리: 여러 글의 댓글 수 변화량을 한번에 반영
+    int updateCommentCountBatch(@Param("deltas") List<CounterDelta> deltas);
+
+    // like 테이블 기준으로 like_cnt 재계산 (탈퇴 유저의 좋아요 제외)
+    int recountLikeCnt();
 }
@@ -18,6 +18,11 @@ public interface CommentMapper {
     // 게시글별 댓글 목록
     List<Comment> findAllByBoardId(@Param("boardId") Long boardId);
 
+    // 게시글별 댓글 한 페이지 (afterId 다음부터 id 오름차순, (board_id, id) 인덱스로 seek)
+    List<Comment> findPageByBoardId(@Param("boardId") Long boardId,
+                                    @Param("afterId") Long afterId,
+                                    @Param("limit") int limit);
+
     // 특정 유저가 작성한 댓글 목록
     List<Comment> findAllByUserLoginId(@Param("loginId") String loginId);
 
@@ -0,0 +1,16 @@
+package spboard.board.Repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Optional;
+
+// 메모리 카운터의 종료 상태 (counter_state 테이블)
+@Mapper
+public interface CounterStateMapper {
+
+    // 마지막 실행이 변화량을 모두 반영하고 정상 종료했는지 (행이 없으면 empty)
+    Optional<Boolean> findClean(@Param("name") String name);
+
+    int upsertClean(@Param("name") String name, @Param("clean") boolean clean);
+}
@@ -11,14 +11,19 @@ public interface LikeMapper {
 
     int insert(@Param("userId") Long id, @Param("boardId") Long boardId);
 
+    // uk_like_user_board 로 중복이면 무시 => 0 반환
+    int insertIgnore(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
+    int deleteByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
     int deleteByUserLoginIdAndBoardId(@Param("loginId") String loginId,
                                       @Param("boardId") Long boardId);
 
-    boolean existsByUserLoginIdAndBoardId(@Param("loginId") String logingId,
-                                          @Param("boardId") Long boardId);
-
     List<Like> findAllByUserLoginId(@Param("loginId") String loginId);
 
+    // 유저가 좋아요 누른 글 id 전체 (LikedBoardSet 초기 로딩용)
+    List<Long> findBoardIdsByUserLoginId(@Param("loginId") String loginId);
+
     int deleteByLoginId(@Param("loginId") String loginId);
 
 
@@ -10,9 +10,19 @@ import java.util.Optional;
 public interface UploadImageMapper {
     int insert(UploadImage uploadImage);
 
+    // 같은 내용이 있으면 ref_count + 1 후 그 행의 id 를 uploadImage.id 에 채움
+    int insertOrReference(UploadImage uploadImage);
+
+    Optional<UploadImage> findByIdForUpdate(@Param("id") Long id);
+
+    int decreaseRefCount(@Param("id") Long id);
+
     Optional<UploadImage> findById(@Param("id") Long id);
 
     int deleteById(@Param("id") Long id);
 
     Optional<UploadImage> findBySavedFilename(@Param("savedFilename") String savedFilename);
+
+    // 게시글에 연결된 이미지 (본문 등 게시글 컬럼은 읽지 않음)
+    Optional<UploadImage> findByBoardId(@Param("boardId") Long boardId);
 }
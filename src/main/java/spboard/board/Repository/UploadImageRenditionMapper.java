@@ -0,0 +1,21 @@
+package spboard.board.Repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import spboard.board.Domain.MapperDTO.UploadImageRendition;
+
+import java.util.List;
+
+@Mapper
+public interface UploadImageRenditionMapper {
+    // 원본 행이 이미 삭제됐으면 0 (생성 중에 원본이 삭제된 경우)
+    int insertIfImageExists(UploadImageRendition rendition);
+
+    // 원본 saved_filename 기준 (width 오름차순)
+    List<UploadImageRendition> findByOriginalFilename(@Param("savedFilename") String savedFilename);
+
+    // 원본 삭제 트랜잭션에서 호출 => 잠금 읽기라 그 직전에 커밋된 축소본까지 보임
+    List<UploadImageRendition> findByUploadImageId(@Param("uploadImageId") Long uploadImageId);
+
+    int deleteByUploadImageId(@Param("uploadImageId") Long uploadImageId);
+}
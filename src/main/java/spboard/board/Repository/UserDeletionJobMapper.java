@@ -0,0 +1,41 @@
+package spboard.board.Repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import spboard.board.Domain.MapperDTO.DeletionChunkRow;
+import spboard.board.Domain.MapperDTO.UserDeletionJob;
+import spboard.board.Domain.enum_class.DeletionJobPhase;
+
+import java.util.List;
+import java.util.Optional;
+
+// 탈퇴 후처리 작업 (user_deletion_job 테이블)
+@Mapper
+public interface UserDeletionJobMapper {
+
+    int insert(@Param("userId") Long userId);
+
+    // 아직 끝나지 않은 작업의 유저 id (오래된 순)
+    List<Long> findPendingUserIds(@Param("limit") int limit);
+
+    // 한 묶음을 반영하는 트랜잭션 안에서 호출 => 다른 서버가 같은 작업을 동시에 진행하지 못함
+    Optional<UserDeletionJob> findByUserIdForUpdate(@Param("userId") Long userId);
+
+    int updateProgress(@Param("userId") Long userId,
+                       @Param("phase") DeletionJobPhase phase,
+                       @Param("lastId") Long lastId);
+
+    // 좋아요 단계의 작업을 모두 댓글 단계로 넘김 (좋아요 카운트를 ACTIVE 유저 기준으로 다시 계산한 경우)
+    int skipLikePhase();
+
+    // 탈퇴 유저가 누른 좋아요 / 작성한 댓글을 id 순서대로 (lastId 다음부터)
+    List<DeletionChunkRow> findLikeChunk(@Param("userId") Long userId,
+                                         @Param("lastId") Long lastId,
+                                         @Param("limit") int limit);
+
+    List<DeletionChunkRow> findCommentChunk(@Param("userId") Long userId,
+                                            @Param("lastId") Long lastId,
+                                            @Param("limit") int limit);
+
+    long countPending();
+}
@@ -2,6 +2,11 @@ package spboard.board.Repository;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+import spboard.board.Domain.MapperDTO.CounterDelta;
+import spboard.board.Domain.MapperDTO.PromotionState;
+import spboard.board.Domain.MapperDTO.RoleCount;
+import spboard.board.Domain.MapperDTO.UserNameDoc;
 import spboard.board.Domain.entity.User;
 import spboard.board.Domain.enum_class.UserRole;
 import spboard.board.Domain.enum_class.UserStatus;
@@ -17,7 +22,8 @@ public interface UserMapper {
 
     boolean existsByNickname(@Param("nickname") String nickname);
 
-    long countAllByUserRole(@Param("userRole") UserRole userRole);
+    // 홈 화면 통계용 (ACTIVE 유저를 등급별로 한번에)
+    List<RoleCount> countActiveGroupByUserRole();
 
     // JPA: findAllByNicknameContains(nickname, pageable)
     // MyBatis: page/size를 직접 받아서 LIMIT/OFFSET 처리
@@ -30,6 +36,37 @@ public interface UserMapper {
 
     long countAllByNicknameContains(@Param("nickname") String nickname);
 
+    // 이름 인덱스가 찾은 후보 id 중 목록 조건(ACTIVE, userRole 제외)을 만족하는 유저만 페이지 단위로
+    List<User> findPageByIdsExcludeRole(
+            @Param("ids") List<Long> ids,
+            @Param("userRole") UserRole userRole,
+            @Param("offset") int offset,
+            @Param("limit") int limit
+    );
+
+    long countByIds(@Param("ids") List<Long> ids);
+
+    // 자동완성 결과 표시용 (비밀번호 제외)
+    List<User> findAllByIds(@Param("ids") List<Long> ids);
+
+    // 이름 인덱스 재구성용 (MySQL 스트리밍 조회)
+    void streamAllForNameIndex(ResultHandler<UserNameDoc> handler);
+
+    // 작성 글 / 댓글 / 누른 좋아요 수 (UserActivityCountService)
+    int addBoardCnt(@Param("userId") Long userId, @Param("delta") int delta);
+
+    int addCommentCnt(@Param("userId") Long userId, @Param("delta") int delta);
+
+    int addLikeCnt(@Param("userId") Long userId, @Param("delta") int delta);
+
+    int addLikeCntBatch(@Param("deltas") List<CounterDelta> deltas);
+
+    int subtractCommentCntByBoard(@Param("boardId") Long boardId);
+
+    int subtractLikeCntByBoard(@Param("boardId") Long boardId);
+
+    int recountActivity();
+
     // 회원가입/수정용으로 흔히 필요한 기본 CRUD
     int insert(User user);
 
@@ -39,8 +76,18 @@ public interface UserMapper {
             @Param("nickname") String nickname
     );
 
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+
     int updateRole(@Param("id") Long id, @Param("userRole") UserRole userRole);
 
+    // 자동 승급: 현재 등급이 fromRole 인 유저만 toRole 로
+    int updateRoleBatch(@Param("ids") List<Long> ids,
+                        @Param("fromRole") UserRole fromRole,
+                        @Param("toRole") UserRole toRole);
+
+    // 자동 승급 판단용 (ACTIVE 유저의 등급 + 받은 좋아요 수)
+    List<PromotionState> findPromotionStates(@Param("ids") List<Long> ids);
+
     int updateReceivedLikeCnt(@Param("id") Long id, @Param("receivedLikeCnt") int receivedLikeCnt);
 
     Optional<User> findById(@Param("id") Long id);
@@ -52,11 +99,19 @@ public interface UserMapper {
 
     long countActive();
 
-    int decreaseReceivedLikeCnt(@Param("userId") Long userId, @Param("delta") int delta);
+    // 받은 좋아요 수는 user_like_shard 슬롯에 나눠서 누적 (user 행 잠금 회피)
+    int addReceivedLike(@Param("userId") Long userId, @Param("slot") int slot, @Param("delta") long delta);
+
+    int addReceivedLikeBatch(@Param("deltas") List<CounterDelta> deltas, @Param("slot") int slot);
+
+    // received_like + 슬롯 합계
+    Long sumReceivedLike(@Param("userId") Long userId);
 
-    int incrementReceivedLikeCount(@Param("userId") Long userId);
+    // like 테이블 기준으로 received_like 재계산 (자기 글 좋아요, 탈퇴 유저의 좋아요 제외)
+    // 재계산 값이 슬롯 합계까지 포함하므로 이후 슬롯은 비워야 함
+    int recountReceivedLike();
 
-    int decrementReceivedLikeCount(@Param("userId") Long userId);
+    int deleteAllReceivedLikeSlots();
 
     int countByLoginId(@Param("loginId") String loginId);
 
@@ -0,0 +1,25 @@
+package spboard.board.Service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 상태(인덱스, 캐시 등)는 DB 커밋이 확정된 뒤에 반영해야 롤백 시 어긋나지 않음
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    // 트랜잭션 안이면 커밋 직후에, 트랜잭션 밖이면 바로 실행
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
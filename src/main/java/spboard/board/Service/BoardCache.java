@@ -0,0 +1,75 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.MapperDTO.BoardMeta;
+import spboard.board.Domain.entity.Board;
+import spboard.board.Repository.BoardMapper;
+
+import java.util.Optional;
+
+// 게시글 상세(board + user + upload_image 조인) read-through 캐시
+// 크기 초과 시 오래 안 쓰인 글부터 제거, hit/miss는 /actuator/metrics/cache.gets?tag=cache:boardDetail 로 확인
+// Board 는 setter 가 있는 객체라 캐시에 든 것을 그대로 내주지 않고 복사본을 돌려줌
+@Component
+public class BoardCache {
+
+    private final BoardMapper boardMapper;
+    private final Cache<Long, Board> cache;
+
+    public BoardCache(BoardMapper boardMapper, MeterRegistry meterRegistry,
+                      @Value("${board.cache.detail.max-size}") long maxSize) {
+        this.boardMapper = boardMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardDetail");
+    }
+
+    // 없는 글(또는 탈퇴한 작성자의 글)은 캐시하지 않음
+    public Optional<Board> findById(Long boardId) {
+        return Optional.ofNullable(cache.get(boardId, id -> boardMapper.findById(id).orElse(null)))
+                .map(BoardCache::copy);
+    }
+
+    // 존재 여부/작성자/카테고리만 필요한 경우 (댓글, 좋아요 등)
+    // 캐시에 있으면 그대로 쓰고, 없으면 본문 없이 가벼운 쿼리로 조회 (상세 캐시는 채우지 않음)
+    public Optional<BoardMeta> findMeta(Long boardId) {
+        Board cached = cache.getIfPresent(boardId);
+        if (cached != null) {
+            return Optional.of(new BoardMeta(cached.getId(), cached.getCategory(), cached.getUser().getId()));
+        }
+        return boardMapper.findMetaById(boardId);
+    }
+
+    // 게시글 내용/이미지/좋아요 수/댓글 수 변경 시 호출
+    // 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 이후에 한번 더 제거
+    public void evict(Long boardId) {
+        cache.invalidate(boardId);
+        AfterCommit.run(() -> cache.invalidate(boardId));
+    }
+
+    // 작성자 닉네임이 바뀌면 해당 유저의 글 전부 제거
+    public void evictByUser(Long userId) {
+        AfterCommit.run(() -> cache.asMap().values()
+                .removeIf(board -> board.getUser() != null && userId.equals(board.getUser().getId())));
+    }
+
+    // 여러 글의 카운트가 한번에 바뀌는 경우 (회원 탈퇴 등)
+    public void evictAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    // 호출한 쪽이 값을 바꿔도 다른 요청이 보는 캐시 값은 그대로 (작성자 / 이미지 객체까지 복사)
+    private static Board copy(Board board) {
+        return board.toBuilder()
+                .user(board.getUser() == null ? null : board.getUser().toBuilder().build())
+                .uploadImage(board.getUploadImage() == null ? null : board.getUploadImage().toBuilder().build())
+                .build();
+    }
+}
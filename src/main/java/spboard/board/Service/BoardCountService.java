@@ -0,0 +1,62 @@
+package spboard.board.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.BoardCountMapper;
+
+import java.util.List;
+
+// 목록 화면 전체 글 수를 COUNT(*) 대신 미리 집계된 board_count에서 읽기 위한 서비스
+// 글 작성/삭제, 작성자 등급/상태 변경 시 같은 트랜잭션 안에서 갱신
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardCountService {
+
+    private final BoardCountMapper boardCountMapper;
+
+    public void increase(BoardCategory category, Long userId) {
+        boardCountMapper.addForAuthor(category, userId, 1);
+    }
+
+    public void decrease(BoardCategory category, Long userId) {
+        boardCountMapper.addForAuthor(category, userId, -1);
+    }
+
+    // 작성자의 등급/상태를 바꾸기 직전에 호출 => 기존 칸에서 해당 유저 글 수를 뺌
+    public void detachUser(Long userId) {
+        boardCountMapper.addAllForUser(userId, -1);
+    }
+
+    // 작성자의 등급/상태를 바꾼 직후에 호출 => 새 칸에 해당 유저 글 수를 더함
+    public void attachUser(Long userId) {
+        boardCountMapper.addAllForUser(userId, 1);
+    }
+
+    public void detachUsers(List<Long> userIds) {
+        boardCountMapper.addAllForUsers(userIds, -1);
+    }
+
+    public void attachUsers(List<Long> userIds) {
+        boardCountMapper.addAllForUsers(userIds, 1);
+    }
+
+    // 검색 조건이 없는 목록 화면의 전체 글 수 (ACTIVE 작성자, excludeRole 제외)
+    public long countByCategoryExcludeRole(BoardCategory category, UserRole excludeRole) {
+        return boardCountMapper.sumByCategoryExcludeRole(category, excludeRole);
+    }
+
+    // 누락/중복 반영으로 생긴 오차를 board 테이블 기준으로 다시 맞춤
+    @Scheduled(cron = "${board.count.reconcile-cron}")
+    @Transactional
+    public void reconcile() {
+        boardCountMapper.deleteAll();
+        int rows = boardCountMapper.insertFromBoard();
+        log.info("board_count reconciled: {} rows", rows);
+    }
+}
@@ -0,0 +1,9 @@
+package spboard.board.Service;
+
+// 요청한 게시글이 없거나 처리 중에 삭제된 경우
+public class BoardNotFoundException extends RuntimeException {
+
+    public BoardNotFoundException(Long boardId) {
+        super("board not found: " + boardId);
+    }
+}
@@ -0,0 +1,276 @@
+package spboard.board.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.MapperDTO.BoardSearchDoc;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Repository.BoardMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/내용/작성자 닉네임 검색용 2-gram 역색인 (카테고리별로 분리)
+// LIKE '%keyword%' 는 인덱스를 못 타서 카테고리 전체를 읽기 때문에, 후보 글 id를 메모리에서 먼저 찾음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    private static final int GRAM = 2;
+
+    private final BoardMapper boardMapper;
+    private final Map<BoardCategory, Partition> partitions = createPartitions();
+
+    // 후보가 너무 많으면 IN 절이 커지므로 DB 검색으로 대체
+    @Value("${board.search.max-candidates}")
+    private int maxCandidates;
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    // 검색어에 해당하는 글 id 목록 (최신순)
+    // 인덱스로 답할 수 없으면(재구성 전, 1글자 검색어, 후보 과다) null => DB LIKE 검색으로 대체
+    public List<Long> search(BoardCategory category, String searchType, String keyword) {
+        Field field = Field.of(searchType);
+        String query = normalize(keyword);
+        if (!ready || field == null || query.length() < GRAM) {
+            return null;
+        }
+
+        Partition partition = partitions.get(category);
+        List<Long> result = new ArrayList<>();
+        partition.lock.readLock().lock();
+        try {
+            Map<String, Set<Long>> postings = partition.postings.get(field);
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return result;
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            // 가장 짧은 목록을 기준으로 교집합을 구하고, 실제 문자열 포함 여부로 한번 더 확인
+            for (Long id : lists.get(0)) {
+                if (containsAll(lists, id) && partition.docs.get(id).text(field).contains(query)) {
+                    result.add(id);
+                    if (result.size() > maxCandidates) {
+                        return null;
+                    }
+                }
+            }
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    // 글 작성/수정 시 호출 (같은 id는 덮어씀)
+    public void index(Long boardId, BoardCategory category, Long userId, String title, String body, String nickname) {
+        put(partitions.get(category), boardId, new Doc(userId, normalize(title), normalize(body), normalize(nickname)), false);
+    }
+
+    // 글 수정 시 제목/내용만 교체 (작성자 색인은 유지)
+    // 색인에 없는 글이면 false => 호출하는 쪽에서 index()로 전체를 넣음
+    public boolean updateContent(BoardCategory category, Long boardId, String title, String body) {
+        Partition partition = partitions.get(category);
+        partition.lock.writeLock().lock();
+        try {
+            Doc old = partition.docs.get(boardId);
+            if (old == null) {
+                return false;
+            }
+            Doc updated = new Doc(old.userId(), normalize(title), normalize(body), old.nickname());
+            partition.unindex(boardId, old);
+            partition.index(boardId, updated);
+            partition.docs.put(boardId, updated);
+            return true;
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(BoardCategory category, Long boardId) {
+        Partition partition = partitions.get(category);
+        partition.lock.writeLock().lock();
+        try {
+            Doc old = partition.docs.remove(boardId);
+            if (old != null) {
+                partition.unindex(boardId, old);
+            }
+            if (rebuilding) {
+                removedDuringRebuild.add(boardId);
+            }
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    // 닉네임 변경 시 해당 유저가 쓴 글 전체의 작성자 색인을 교체
+    public void updateNickname(Long userId, String nickname) {
+        String normalized = normalize(nickname);
+        for (Partition partition : partitions.values()) {
+            partition.lock.writeLock().lock();
+            try {
+                for (Map.Entry<Long, Doc> entry : partition.docs.entrySet()) {
+                    Doc old = entry.getValue();
+                    if (old.userId().equals(userId)) {
+                        Doc updated = new Doc(userId, old.title(), old.body(), normalized);
+                        partition.unindex(entry.getKey(), old);
+                        partition.index(entry.getKey(), updated);
+                        entry.setValue(updated);
+                    }
+                }
+            } finally {
+                partition.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // 서버 시작 시 board 전체를 스트리밍으로 읽어 색인
+    // 재구성 중 들어온 작성/수정/삭제가 더 최신이므로 스트림 결과가 덮어쓰지 않게 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        long start = System.currentTimeMillis();
+        int[] count = {0};
+        try {
+            boardMapper.streamAllForSearchIndex(context -> {
+                BoardSearchDoc row = context.getResultObject();
+                Doc doc = new Doc(row.userId(), normalize(row.title()), normalize(row.body()), normalize(row.nickname()));
+                put(partitions.get(row.category()), row.boardId(), doc, true);
+                count[0]++;
+            });
+            ready = true;
+            log.info("board search index built: {} boards in {}ms", count[0], System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 인덱스가 없어도 DB 검색으로 동작하므로 서버는 계속 띄움
+            log.error("board search index build failed, falling back to LIKE search", e);
+        } finally {
+            rebuilding = false;
+            removedDuringRebuild.clear();
+        }
+    }
+
+    private void put(Partition partition, Long boardId, Doc doc, boolean fromRebuild) {
+        partition.lock.writeLock().lock();
+        try {
+            if (fromRebuild && (partition.docs.containsKey(boardId) || removedDuringRebuild.contains(boardId))) {
+                return;
+            }
+            Doc old = partition.docs.put(boardId, doc);
+            if (old != null) {
+                partition.unindex(boardId, old);
+            }
+            partition.index(boardId, doc);
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean containsAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static Map<BoardCategory, Partition> createPartitions() {
+        Map<BoardCategory, Partition> partitions = new EnumMap<>(BoardCategory.class);
+        for (BoardCategory category : BoardCategory.values()) {
+            partitions.put(category, new Partition());
+        }
+        return partitions;
+    }
+
+    private enum Field {
+        TITLE, BODY, NICKNAME;
+
+        static Field of(String searchType) {
+            if ("title".equals(searchType)) return TITLE;
+            else if ("body".equals(searchType)) return BODY;
+            else if ("nickname".equals(searchType)) return NICKNAME;
+            return null;
+        }
+    }
+
+    private record Doc(Long userId, String title, String body, String nickname) {
+        String text(Field field) {
+            return switch (field) {
+                case TITLE -> title;
+                case BODY -> body;
+                case NICKNAME -> nickname;
+            };
+        }
+    }
+
+    private static class Partition {
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Doc> docs = new HashMap<>();
+        final Map<Field, Map<String, Set<Long>>> postings = new EnumMap<>(Field.class);
+
+        Partition() {
+            for (Field field : Field.values()) {
+                postings.put(field, new HashMap<>());
+            }
+        }
+
+        void index(Long boardId, Doc doc) {
+            for (Field field : Field.values()) {
+                Map<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String gram : grams(doc.text(field))) {
+                    fieldPostings.computeIfAbsent(gram, g -> new HashSet<>()).add(boardId);
+                }
+            }
+        }
+
+        void unindex(Long boardId, Doc doc) {
+            for (Field field : Field.values()) {
+                Map<String, Set<Long>> fieldPostings = postings.get(field);
+                for (String gram : grams(doc.text(field))) {
+                    Set<Long> ids = fieldPostings.get(gram);
+                    if (ids != null) {
+                        ids.remove(boardId);
+                        if (ids.isEmpty()) {
+                            fieldPostings.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package spboard.board.Service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.Authentication;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import spboard.board.Domain.Dto.BoardCntDto;
+import spboard.board.Domain.Dto.BoardCursor;
 import spboard.board.Domain.Dto.BoardDto;
+import spboard.board.Domain.Dto.BoardSummary;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Domain.MapperDTO.BoardDeleteMeta;
+import spboard.board.Domain.MapperDTO.BoardMeta;
 import spboard.board.Domain.entity.*;
 import spboard.board.Domain.enum_class.BoardCategory;
 import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Domain.event.BoardWrittenEvent;
 import spboard.board.Repository.BoardMapper;
 import spboard.board.Repository.UserMapper;
 import spboard.board.Domain.Dto.BoardCreateRequest;
@@ -20,6 +25,7 @@ import spboard.board.Domain.Dto.BoardCreateRequest;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,50 +36,103 @@ public class BoardService {
     private final UploadImageService uploadImageService;
     private final BoardMapper boardMapper;
     private final UserMapper userMapper;
-
-    public Page<Board> getBoardList(BoardCategory category, PageRequest pageRequest, String searchType, String keyword) {
+    private final BoardCountService boardCountService;
+    private final UserActivityCountService userActivityCountService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardCache boardCache;
+    private final NoticeCache noticeCache;
+    private final LikeCounter likeCounter;
+    private final ReceivedLikeCounter receivedLikeCounter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // cursor가 있으면 keyset(seek) 방식으로, 없으면 기존 OFFSET 방식으로 조회
+    public Page<BoardSummary> getBoardList(BoardCategory category, PageRequest pageRequest, String searchType, String keyword, String cursor) {
         int offset = (int)pageRequest.getOffset();
         int limit = pageRequest.getPageSize();
 
         // 1. 정렬 조건 추출 (Sort 객체 활용)
-        // 기본값은 id로 설정하고, PageRequest에 담긴 첫 번째 정렬 조건을 꺼냄
-        String orderBy = "id";
-        if (pageRequest.getSort().isSorted()) {
-            String sortProperty = pageRequest.getSort().iterator().next().getProperty();
-            // 자바 필드명 -> db 컬럼명 매핑
-            if ("createdAt".equals(sortProperty)) orderBy = "created_at";
-            else if ("likeCnt".equals(sortProperty)) orderBy = "like_cnt";
-            else if ("commentCnt".equals(sortProperty)) orderBy = "comment_cnt";
+        String orderBy = toOrderBy(pageRequest.getSort());
+        boolean hasSearch = (searchType != null && keyword != null && !keyword.isBlank());
 
+        // 검색은 역색인에서 후보 id를 찾고, 해당 페이지에 보여줄 글만 DB에서 조회
+        if (hasSearch) {
+            List<Long> ids = boardSearchIndex.search(category, searchType, keyword);
+            if (ids != null) {
+                if (ids.isEmpty()) {
+                    return new PageImpl<>(new ArrayList<>(), pageRequest, 0);
+                }
+                List<BoardSummary> content = boardMapper.findPageByIdsExcludeRole(ids, UserRole.ADMIN, orderBy, offset, limit);
+                long total = boardMapper.countByIdsExcludeRole(ids, UserRole.ADMIN);
+                return new PageImpl<>(content, pageRequest, total);
+            }
         }
-        boolean hasSearch = (searchType != null && keyword != null && !keyword.isBlank());
 
-        List<Board> content = boardMapper.findPageByCategoryExcludeRole(
-                category,
-                UserRole.ADMIN,
-                hasSearch ? searchType : null,
-                hasSearch ? keyword : null,
-                orderBy,
-                offset,
-                limit
-        );
-
-        long total = boardMapper.countPageByCategoryExcludeRole(
-                category,
-                UserRole.ADMIN,
-                hasSearch ? searchType : null,
-                hasSearch ? keyword : null
-        );
+        // 정렬 기준이 바뀐 커서는 의미가 없으므로 무시
+        BoardCursor boardCursor = BoardCursor.decode(cursor);
+        if (boardCursor != null && !boardCursor.getOrderBy().equals(orderBy)) {
+            boardCursor = null;
+        }
+
+        List<BoardSummary> content;
+        if (boardCursor == null) {
+            content = boardMapper.findPageByCategoryExcludeRole(
+                    category,
+                    UserRole.ADMIN,
+                    hasSearch ? searchType : null,
+                    hasSearch ? keyword : null,
+                    orderBy,
+                    offset,
+                    limit
+            );
+        } else {
+            content = boardMapper.findPageByCategoryExcludeRoleSeek(
+                    category,
+                    UserRole.ADMIN,
+                    hasSearch ? searchType : null,
+                    hasSearch ? keyword : null,
+                    orderBy,
+                    boardCursor.isNext(),
+                    boardCursor.getSortKey(),
+                    boardCursor.getId(),
+                    limit
+            );
+            // 이전 페이지는 오름차순으로 읽어왔으므로 화면 순서(내림차순)로 뒤집기
+            if (!boardCursor.isNext()) {
+                Collections.reverse(content);
+            }
+        }
+
+        // 검색 조건이 없으면 미리 집계된 글 수 사용 (COUNT(*) 생략)
+        long total = hasSearch
+                ? boardMapper.countPageByCategoryExcludeRole(category, UserRole.ADMIN, searchType, keyword)
+                : boardCountService.countByCategoryExcludeRole(category, UserRole.ADMIN);
 
         return new PageImpl<>(content, pageRequest, total);
     }
 
-    public List<Board> getNotice(BoardCategory category) {
-        return boardMapper.findAllByCategoryAndUserRole(category, UserRole.ADMIN);
+    // 현재 페이지 마지막 글 기준 다음 페이지 커서 (다음 페이지가 없으면 null)
+    public String getNextCursor(Page<BoardSummary> boards) {
+        if (!boards.hasNext() || !boards.hasContent()) {
+            return null;
+        }
+        List<BoardSummary> content = boards.getContent();
+        return BoardCursor.next(toOrderBy(boards.getSort()), content.get(content.size() - 1)).encode();
+    }
+
+    // 현재 페이지 첫 글 기준 이전 페이지 커서 (이전 페이지가 없으면 null)
+    public String getPrevCursor(Page<BoardSummary> boards) {
+        if (!boards.hasPrevious() || !boards.hasContent()) {
+            return null;
+        }
+        return BoardCursor.prev(toOrderBy(boards.getSort()), boards.getContent().get(0)).encode();
+    }
+
+    public List<BoardSummary> getNotice(BoardCategory category) {
+        return noticeCache.get(category);
     }
 
     public BoardDto getBoard(Long boardId, String category) {
-        Optional<Board> optBoard = boardMapper.findById(boardId);
+        Optional<Board> optBoard = boardCache.findById(boardId);
 
         // id에 해당하는 게시글이 없거나 카테고리가 일치하지 않으면 null return 대문자 소문자 무시
         if (optBoard.isEmpty() || !optBoard.get().getCategory().toString().equalsIgnoreCase(category)){
@@ -84,58 +143,71 @@ public class BoardService {
     }
 
     @Transactional
-    public Long writeBoard(BoardCreateRequest request, BoardCategory category, String loginId, Authentication auth) throws IOException {
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("user not found"));
-
-        Board board = request.toEntity(category, loginUser);
+    public Long writeBoard(BoardCreateRequest request, BoardCategory category, LoginUser loginUser) throws IOException {
+        Board board = request.toEntity(category, loginUser.toUser());
         board.setCreatedAt(LocalDateTime.now());
         board.setLastModifiedAt(LocalDateTime.now());
         boardMapper.insert(board);
-
+        boardCountService.increase(category, loginUser.id());
+        userActivityCountService.addBoard(loginUser.id(), 1);
+        if (loginUser.isAdmin()) {
+            noticeCache.evict(category);
+        }
+        AfterCommit.run(() -> boardSearchIndex.index(board.getId(), category, loginUser.id(),
+                board.getTitle(), board.getBody(), loginUser.nickname()));
 
         UploadImage uploadImage = uploadImageService.saveImage(request.getUploadImage(), board);
         if (uploadImage != null) {
-            boardMapper.updateUploadImageId(board.getId(), uploadImage.getId());
+            boardMapper.updateUploadImageId(board.getId(), uploadImage.getId(), uploadImage.getOriginalFilename());
         }
 
-        if (category.equals(BoardCategory.GREETING)) {
-            userMapper.updateRole(loginUser.getId(), UserRole.SILVER);
-        }
+        // 가입인사 승급 등은 PromotionEngine 에서 처리
+        eventPublisher.publishEvent(new BoardWrittenEvent(loginUser.id(), loginUser.loginId(), loginUser.role(), category));
 
         return board.getId();
     }
 
     @Transactional
-    public Long editBoard(Long boardId, String category, BoardDto dto, String loginId) throws IOException {
+    public Long editBoard(Long boardId, String category, BoardDto dto, LoginUser loginUser) throws IOException {
         BoardDeleteMeta meta = boardMapper.findDeleteMetaById(boardId).orElse(null);
         if (meta == null || !meta.category().name().equalsIgnoreCase(category)) return null;
 
         // ✅ 작성자 본인 or ADMIN만 허용
-        validateOwnerOrAdmin(meta.userId(), loginId);
+        validateOwnerOrAdmin(meta.userId(), loginUser);
 
-        Board board = boardMapper.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        // 이미지 교체 로직(기존 그대로)
+        // 이미지 교체 로직(기존 그대로) => 기존 이미지는 교체할 때만 조회
         if (dto.getNewImage() != null && !dto.getNewImage().isEmpty()) {
-            if (board.getUploadImage() != null) {
-                boardMapper.updateUploadImageId(boardId, null);
-                uploadImageService.deleteImage(board.getUploadImage());
+            if (meta.uploadImageId() != null) {
+                boardMapper.updateUploadImageId(boardId, null, null);
+                uploadImageService.deleteImage(meta.uploadImageId());
+                uploadImageService.evictBoardImage(boardId);
             }
         }
 
-        UploadImage uploadImage = uploadImageService.saveImage(dto.getNewImage(), board);
+        UploadImage uploadImage = uploadImageService.saveImage(dto.getNewImage(), Board.builder().id(boardId).build());
         if (uploadImage != null) {
-            boardMapper.updateUploadImageId(boardId, uploadImage.getId());
+            boardMapper.updateUploadImageId(boardId, uploadImage.getId(), uploadImage.getOriginalFilename());
+            uploadImageService.evictBoardImage(boardId);
         }
 
-        boardMapper.updateContent(board.getId(), dto.getTitle(), dto.getBody(), LocalDateTime.now());
-        return board.getId();
+        boardMapper.updateContent(boardId, dto.getTitle(), dto.getBody(), LocalDateTime.now());
+        boardCache.evict(boardId);
+        // 공지(ADMIN 글)는 ADMIN만 고칠 수 있음
+        if (loginUser.isAdmin()) {
+            noticeCache.evict(meta.category());
+        }
+        // 작성자 닉네임은 색인에 있는 값을 그대로 쓰고, 색인에 없을 때(재구성 중)만 조회
+        AfterCommit.run(() -> {
+            if (!boardSearchIndex.updateContent(meta.category(), boardId, dto.getTitle(), dto.getBody())) {
+                userMapper.findById(meta.userId()).ifPresent(author -> boardSearchIndex.index(boardId, meta.category(),
+                        author.getId(), dto.getTitle(), dto.getBody(), author.getNickname()));
+            }
+        });
+        return boardId;
     }
 
     @Transactional
-    public Long deleteBoard(Long boardId, String category, String loginId)  {
+    public Long deleteBoard(Long boardId, String category, LoginUser loginUser) throws IOException {
 
         BoardCategory reqCategory = BoardCategory.of(category);
         if (reqCategory == null) return null;
@@ -144,26 +216,40 @@ public class BoardService {
         if (meta == null || meta.category() != reqCategory) return null;
 
         // ✅ 작성자 본인 or ADMIN만 허용
-        validateOwnerOrAdmin(meta.userId(), loginId);
+        validateOwnerOrAdmin(meta.userId(), loginUser);
+
+        // 아직 flush 안 된 좋아요도 작성자 받은 좋아요에 들어갈 예정이므로 함께 뺌 (행을 잠그기 전에 꺼내야 flush 와 엇갈리지 않음)
+        long pendingReceived = likeCounter.drainBoard(boardId);
 
+        // 같은 이미지를 다른 게시글도 쓰고 있으면 참조 수만 줄어듦
         if (meta.uploadImageId() != null) {
-            boardMapper.updateUploadImageId(boardId, null);
+            boardMapper.updateUploadImageId(boardId, null, null);
+            uploadImageService.deleteImage(meta.uploadImageId());
+            uploadImageService.evictBoardImage(boardId);
         }
 
-        userMapper.decreaseReceivedLikeCnt(meta.userId(), meta.likeCnt());
+        receivedLikeCounter.add(meta.userId(), -(meta.likeCnt() + pendingReceived));
+        boardCountService.decrease(meta.category(), meta.userId());
+        userActivityCountService.addBoard(meta.userId(), -1);
+        userActivityCountService.detachBoard(boardId);
         boardMapper.deleteById(boardId);
+        boardCache.evict(boardId);
+        if (loginUser.isAdmin()) {
+            noticeCache.evict(meta.category());
+        }
+        AfterCommit.run(() -> boardSearchIndex.remove(meta.category(), boardId));
 
         return boardId;
     }
 
     public String getCategory(Long boardId) {
-        Board board = boardMapper.findById(boardId)
+        BoardMeta meta = boardCache.findMeta(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("board not found"));
 
-        return board.getCategory().name().toLowerCase();
+        return meta.category().name().toLowerCase();
     }
 
-    public List<Board> findMyBoard(String category, String loginId) {
+    public List<BoardSummary> findMyBoard(String category, String loginId) {
         if ("board".equals(category)) {
             return boardMapper.findAllByUserLoginId(loginId);
         } else if ("like".equals(category)) {
@@ -174,26 +260,25 @@ public class BoardService {
         return new ArrayList<>();
     }
 
-    public BoardCntDto getBoardCnt(){
-        return BoardCntDto.builder()
-                .totalBoardCnt(boardMapper.countBoard())
-                .totalNoticeCnt(boardMapper.countAllByUserRole(UserRole.ADMIN))
-                .totalGreetingCnt(boardMapper.countAllByCategoryExcludeRole(BoardCategory.GREETING, UserRole.ADMIN))
-                .totalFreeCnt(boardMapper.countAllByCategoryExcludeRole(BoardCategory.FREE, UserRole.ADMIN))
-                .totalGoldCnt(boardMapper.countAllByCategoryExcludeRole(BoardCategory.GOLD, UserRole.ADMIN))
-                .build();
-    }
-
     public int getLikeCount(Long boardId) {
-        return boardMapper.getLikeCount(boardId);
+        return likeCounter.getLikeCount(boardId);
     }
 
-    private void validateOwnerOrAdmin(Long ownerUserId, String loginId) {
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("user not found"));
+    // 기본값은 id로 설정하고, Sort에 담긴 첫 번째 정렬 조건을 db 컬럼명으로 매핑
+    private String toOrderBy(Sort sort) {
+        if (sort.isSorted()) {
+            String sortProperty = sort.iterator().next().getProperty();
+            // 자바 필드명 -> db 컬럼명 매핑
+            if ("createdAt".equals(sortProperty)) return "created_at";
+            else if ("likeCnt".equals(sortProperty)) return "like_cnt";
+            else if ("commentCnt".equals(sortProperty)) return "comment_cnt";
+        }
+        return "id";
+    }
 
-        boolean isOwner = loginUser.getId().equals(ownerUserId);
-        boolean isAdmin = loginUser.getUserRole() == UserRole.ADMIN;
+    private void validateOwnerOrAdmin(Long ownerUserId, LoginUser loginUser) {
+        boolean isOwner = loginUser.id().equals(ownerUserId);
+        boolean isAdmin = loginUser.isAdmin();
 
         if (!isOwner && !isAdmin) {
             throw new org.springframework.security.access.AccessDeniedException("not owner");
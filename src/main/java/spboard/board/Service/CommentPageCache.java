@@ -0,0 +1,89 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import spboard.board.Domain.entity.Comment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 게시글별 댓글 페이지 캐시 (key: 게시글 id => 커서별 페이지)
+// 댓글 작성/수정/삭제 시 해당 게시글 항목 하나만 제거 (페이지 전체를 훑지 않음), 작성자 탈퇴/닉네임 변경 시 전체 제거
+// 제거 중에 읽어오던 페이지는 다시 캐시되지 않음 (읽기 시작할 때의 Map 이 그대로일 때만 추가)
+// 메모리 기준(대략적인 문자열 크기)으로 제한 (게시글 단위로 밀려남), hit/miss는 /actuator/metrics/cache.gets?tag=cache:commentPage 로 확인
+@Component
+public class CommentPageCache {
+
+    private static final int COMMENT_OVERHEAD = 200; // 댓글 객체, 날짜, 작성자 객체 등
+    private static final long FIRST_PAGE = 0L; // 커서 없음 (Map.copyOf 는 null key 불가)
+
+    private final Cache<Long, Map<Long, Slice<Comment>>> cache;
+
+    public CommentPageCache(MeterRegistry meterRegistry,
+                            @Value("${board.cache.comment.max-memory}") DataSize maxMemory) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemory.toBytes())
+                .weigher((Long boardId, Map<Long, Slice<Comment>> pages) -> weigh(pages))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentPage");
+    }
+
+    public Slice<Comment> get(Long boardId, Long cursor, Supplier<Slice<Comment>> loader) {
+        // 새 게시글 항목은 매번 새 인스턴스 (Map.of() 는 공유 인스턴스라 제거 여부를 구분할 수 없음)
+        Map<Long, Slice<Comment>> pages = cache.get(boardId, id -> new HashMap<>());
+        Long pageKey = cursor == null ? FIRST_PAGE : cursor;
+        Slice<Comment> page = pages.get(pageKey);
+        if (page != null) {
+            return page;
+        }
+
+        Slice<Comment> loaded = loader.get();
+        // 무게는 값을 넣을 때 계산되므로 페이지를 더한 새 Map 으로 교체
+        // 읽는 사이 제거(또는 다른 요청이 교체)됐으면 옛 데이터일 수 있으므로 캐시하지 않음
+        cache.asMap().computeIfPresent(boardId, (id, current) -> {
+            if (current != pages) {
+                return current;
+            }
+            Map<Long, Slice<Comment>> updated = new HashMap<>(current);
+            updated.put(pageKey, loaded);
+            return Map.copyOf(updated);
+        });
+        return loaded;
+    }
+
+    // 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 이후에 한번 더 제거
+    public void evict(Long boardId) {
+        cache.invalidate(boardId);
+        AfterCommit.run(() -> cache.invalidate(boardId));
+    }
+
+    // 작성자 탈퇴(댓글이 목록에서 빠짐), 닉네임 변경 시
+    public void evictAll() {
+        AfterCommit.run(cache::invalidateAll);
+    }
+
+    private static int weigh(Map<Long, Slice<Comment>> pages) {
+        long bytes = 0;
+        for (Slice<Comment> page : pages.values()) {
+            for (Comment comment : page.getContent()) {
+                bytes += COMMENT_OVERHEAD + 2L * length(comment.getBody());
+                if (comment.getUser() != null) {
+                    bytes += 2L * (length(comment.getUser().getNickname()) + length(comment.getUser().getLoginId()));
+                }
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -1,17 +1,20 @@
 package spboard.board.Service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import spboard.board.Domain.MapperDTO.BoardMeta;
 import spboard.board.Domain.MapperDTO.CommentMeta;
 import spboard.board.Domain.entity.Board;
 import spboard.board.Domain.entity.Comment;
-import spboard.board.Domain.entity.User;
-import spboard.board.Domain.enum_class.UserRole;
 import spboard.board.Repository.BoardMapper;
 import spboard.board.Repository.CommentMapper;
-import spboard.board.Repository.UserMapper;
 import spboard.board.Domain.Dto.CommentCreateRequest;
+import spboard.board.Domain.Dto.LoginUser;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,49 +25,82 @@ public class CommentService {
 
     private final CommentMapper commentMapper;
     private final BoardMapper boardMapper;
-    private final UserMapper userMapper;
+    private final BoardCache boardCache;
+    private final CommentPageCache commentPageCache;
+    private final UserActivityCountService userActivityCountService;
 
-    public void writeComment(Long boardId, CommentCreateRequest request, String loginId) {
-        Board board = boardMapper.findById(boardId).orElseThrow(() -> new IllegalArgumentException("게시판 없음"));
-        User user = userMapper.findByLoginId(loginId).orElseThrow(() -> new IllegalArgumentException(" 유저 없음"));
+    @Value("${board.comment.page-size}")
+    private int pageSize;
+
+    @Transactional
+    public void writeComment(Long boardId, CommentCreateRequest request, LoginUser loginUser) {
+        BoardMeta board = boardCache.findMeta(boardId).orElseThrow(() -> new IllegalArgumentException("게시판 없음"));
 
         boardMapper.incrementCommentCount(boardId);
+        boardCache.evict(boardId);
 
-        commentMapper.insert(request.toEntity(board, user, LocalDateTime.now(), LocalDateTime.now()));
+        commentMapper.insert(request.toEntity(Board.builder().id(board.boardId()).build(), loginUser.toUser(), LocalDateTime.now(), LocalDateTime.now()));
+        userActivityCountService.addComment(loginUser.id(), 1);
+        commentPageCache.evict(boardId);
     }
 
     public List<Comment> findAll(Long boardId) { return commentMapper.findAllByBoardId(boardId);
     }
 
+    // 댓글 한 페이지 (cursor: 이전 페이지 마지막 댓글 id, 첫 페이지는 null)
+    public Slice<Comment> findPage(Long boardId, Long cursor) {
+        return commentPageCache.get(boardId, cursor, () -> loadPage(boardId, cursor));
+    }
+
+    // 한 개 더 읽어서 다음 페이지가 있는지 판단
+    private Slice<Comment> loadPage(Long boardId, Long cursor) {
+        List<Comment> comments = commentMapper.findPageByBoardId(boardId, cursor, pageSize + 1);
+        boolean hasNext = comments.size() > pageSize;
+        if (hasNext) {
+            comments = comments.subList(0, pageSize);
+        }
+        return new SliceImpl<>(comments, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    // 다음 페이지 커서 (없으면 null)
+    public Long getNextCursor(Slice<Comment> comments) {
+        if (!comments.hasNext()) {
+            return null;
+        }
+        List<Comment> content = comments.getContent();
+        return content.get(content.size() - 1).getId();
+    }
+
     @Transactional
-    public Long editComment(Long commentId, String newBody, String loginId) {
+    public Long editComment(Long commentId, String newBody, LoginUser loginUser) {
         CommentMeta meta = commentMapper.findMetaById(commentId).orElse(null);
         if (meta == null) return null;
 
-        validateOwnerOrAdmin(meta.userId(), loginId);
+        validateOwnerOrAdmin(meta.userId(), loginUser);
 
         commentMapper.updateBody(commentId, newBody, LocalDateTime.now());
+        commentPageCache.evict(meta.boardId());
         return meta.boardId(); // 수정 후 어디로 돌아갈지에 유용
     }
 
     @Transactional
-    public Long deleteComment(Long commentId, String loginId) {
+    public Long deleteComment(Long commentId, LoginUser loginUser) {
         CommentMeta meta = commentMapper.findMetaById(commentId).orElse(null);
         if (meta == null) return null;
 
-        validateOwnerOrAdmin(meta.userId(), loginId);
+        validateOwnerOrAdmin(meta.userId(), loginUser);
 
         commentMapper.deleteById(commentId);
         boardMapper.decrementCommentCount(meta.boardId());
+        userActivityCountService.addComment(meta.userId(), -1);
+        boardCache.evict(meta.boardId());
+        commentPageCache.evict(meta.boardId());
         return meta.boardId();
     }
 
-    private void validateOwnerOrAdmin(Long ownerUserId, String loginId) {
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("user not found"));
-
-        boolean isOwner = loginUser.getId().equals(ownerUserId);
-        boolean isAdmin = loginUser.getUserRole() == UserRole.ADMIN;
+    private void validateOwnerOrAdmin(Long ownerUserId, LoginUser loginUser) {
+        boolean isOwner = loginUser.id().equals(ownerUserId);
+        boolean isAdmin = loginUser.isAdmin();
 
         if (!isOwner && !isAdmin) {
             throw new org.springframework.security.access.AccessDeniedException("not owner");
@@ -0,0 +1,232 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.MapperDTO.UploadImageRendition;
+import spboard.board.Domain.entity.UploadImage;
+import spboard.board.Repository.UploadImageRenditionMapper;
+import spboard.board.Service.storage.ImageStorage;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드 이미지 축소본 생성 (JDK ImageIO 만 사용)
+// 업로드가 커밋되면 전용 스레드 풀에서 widths 별로 만들어 원본과 같은 저장소에 넣고 upload_image_rendition 에 기록
+// 요청한 width 의 축소본이 아직 없으면(생성 중, 대기열 초과, 원본이 더 작음 등) 원본을 보여줌
+@Slf4j
+@Component
+public class ImageRenditionService {
+
+    private final UploadImageRenditionMapper renditionMapper;
+    private final ImageStorage imageStorage;
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    // 원본 savedFilename => 만들어진 축소본 (width 오름차순, 없으면 빈 목록)
+    private final Cache<String, List<UploadImageRendition>> renditions;
+
+    private final Timer renderTimer;
+    private final Counter rejected;
+
+    public ImageRenditionService(UploadImageRenditionMapper renditionMapper, ImageStorage imageStorage,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${board.image.rendition-widths}") List<Integer> widths,
+                                 @Value("${board.image.max-pixels}") long maxPixels,
+                                 @Value("${board.image.threads}") int threads,
+                                 @Value("${board.image.queue-capacity}") int queueCapacity) {
+        this.renditionMapper = renditionMapper;
+        this.imageStorage = imageStorage;
+        this.widths = widths.stream().sorted().toList();
+        this.maxPixels = maxPixels;
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "image-rendition-" + threadNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    // 요청 처리 스레드보다 뒤로
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.renditions = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, renditions, "imageRendition");
+
+        this.renderTimer = Timer.builder("board.image.rendition.time")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("board.image.rendition.rejected")
+                .register(meterRegistry);
+        Gauge.builder("board.image.rendition.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 업로드 트랜잭션이 커밋된 뒤 생성 시작 (롤백되면 만들지 않음)
+    public void schedule(UploadImage uploadImage) {
+        AfterCommit.run(() -> {
+            try {
+                executor.execute(() -> render(uploadImage));
+            } catch (RejectedExecutionException e) {
+                // 원본으로 계속 보여줌
+                rejected.increment();
+                log.warn("rendition queue is full, skipped: {}", uploadImage.getSavedFilename());
+            }
+        });
+    }
+
+    // 요청한 width 이상인 축소본 중 가장 작은 것, 없으면 원본
+    public String resolve(String savedFilename, Integer width) {
+        if (width == null || width <= 0) {
+            return savedFilename;
+        }
+        List<UploadImageRendition> ready = renditions.get(savedFilename, renditionMapper::findByOriginalFilename);
+        for (UploadImageRendition rendition : ready) {
+            if (rendition.width() >= width) {
+                return rendition.savedFilename();
+            }
+        }
+        return savedFilename;
+    }
+
+    // 원본 삭제 시 호출 => 지워야 할 축소본 key 반환
+    public List<String> remove(UploadImage uploadImage) {
+        List<String> filenames = renditionMapper.findByUploadImageId(uploadImage.getId()).stream()
+                .map(UploadImageRendition::savedFilename)
+                .toList();
+        renditionMapper.deleteByUploadImageId(uploadImage.getId());
+        AfterCommit.run(() -> renditions.invalidate(uploadImage.getSavedFilename()));
+        return filenames;
+    }
+
+    private void render(UploadImage uploadImage) {
+        Timer.Sample sample = Timer.start();
+        try {
+            BufferedImage source = read(uploadImage.getSavedFilename());
+            if (source == null) {
+                return;
+            }
+
+            // 투명도가 있으면 png, 아니면 jpg
+            boolean alpha = source.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpg";
+            String base = uploadImage.getSavedFilename();
+            int dot = base.lastIndexOf('.');
+            if (dot > 0) {
+                base = base.substring(0, dot);
+            }
+
+            for (Integer width : widths) {
+                // 원본보다 큰 축소본은 만들지 않음 (원본을 그대로 보여줌)
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                String filename = base + "_w" + width + "." + format;
+                BufferedImage scaled = scale(source, width, alpha);
+                imageStorage.put(filename, encode(scaled, format), "image/" + (alpha ? "png" : "jpeg"));
+                if (renditionMapper.insertIfImageExists(new UploadImageRendition(uploadImage.getId(), width, filename)) == 0) {
+                    // 만드는 사이 원본이 삭제됨 => 방금 넣은 축소본도 지우고 중단
+                    imageStorage.delete(filename);
+                    log.info("original deleted while rendering, dropped: {}", uploadImage.getSavedFilename());
+                    return;
+                }
+            }
+            renditions.invalidate(uploadImage.getSavedFilename());
+        } catch (IOException | RuntimeException e) {
+            log.warn("rendition failed: {}", uploadImage.getSavedFilename(), e);
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    // 크기부터 확인해서 너무 큰 이미지(압축 폭탄 등)는 디코딩하지 않음
+    private BufferedImage read(String key) throws IOException {
+        try (InputStream original = imageStorage.open(key);
+             ImageInputStream in = ImageIO.createImageInputStream(original)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    log.info("image too large for rendition: {}", key);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로
+    private static BufferedImage scale(BufferedImage source, int targetWidth, boolean alpha) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            BufferedImage next = new BufferedImage(w, h, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, w, h, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    // 저장소에는 완성된 바이트를 한 번에 넣음 (쓰는 중인 파일이 읽히지 않도록)
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IOException("no writer for " + format);
+        }
+        return out.toByteArray();
+    }
+}
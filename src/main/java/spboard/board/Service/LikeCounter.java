@@ -0,0 +1,348 @@
+package spboard.board.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spboard.board.Domain.MapperDTO.CounterDelta;
+import spboard.board.Repository.BoardMapper;
+import spboard.board.Repository.CounterStateMapper;
+import spboard.board.Repository.UserDeletionJobMapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 게시글 좋아요 수(board.like_cnt) / 작성자 받은 좋아요 수(ReceivedLikeCounter) / 누른 사람의 좋아요 수(user.like_cnt) 반영
+// write-behind 모드에서는 like 행만 트랜잭션으로 쓰고, 카운트 변화량은 메모리(LongAdder)에 모았다가 주기적으로 한번에 반영
+// => 인기 글에 좋아요가 몰려도 board/user 행 잠금을 클릭마다 잡지 않음
+// 서버가 반영 전에 죽으면 모아둔 변화량은 사라지므로, 정상 종료 기록(counter_state)이 없으면 시작 시 like 테이블 기준으로 다시 계산
+// (누른 좋아요 수는 UserActivityCountService 의 야간 재계산이 맞춤)
+@Slf4j
+@Component
+public class LikeCounter {
+
+    private static final String STATE_NAME = "like";
+
+    private final BoardMapper boardMapper;
+    private final CounterStateMapper counterStateMapper;
+    private final UserDeletionJobMapper userDeletionJobMapper;
+    private final ReceivedLikeCounter receivedLikeCounter;
+    private final UserActivityCountService userActivityCountService;
+    private final BoardCache boardCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean writeBehind;
+    private final int batchSize;
+
+    // 반영 대기 중인 변화량 (boardId / 작성자 userId => delta)
+    // 누적은 read lock(여러 스레드 동시), flush 시 맵 교체만 write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 조회(DB 값 + pending + flushing)는 read lock, flush(교체 ~ 커밋 ~ flushing 비우기)는 write lock
+    // => 커밋으로 DB 에 들어간 변화량을 flushing 에서 한 번 더 더하지 않음 (누적하는 쪽은 잡지 않음)
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private volatile Pending pending = new Pending();
+    private volatile Pending flushing = null;
+
+    public LikeCounter(BoardMapper boardMapper, CounterStateMapper counterStateMapper,
+                       UserDeletionJobMapper userDeletionJobMapper, ReceivedLikeCounter receivedLikeCounter,
+                       UserActivityCountService userActivityCountService, BoardCache boardCache,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${board.like.write-behind}") boolean writeBehind,
+                       @Value("${board.like.flush-batch-size}") int batchSize) {
+        this.boardMapper = boardMapper;
+        this.counterStateMapper = counterStateMapper;
+        this.userDeletionJobMapper = userDeletionJobMapper;
+        this.receivedLikeCounter = receivedLikeCounter;
+        this.userActivityCountService = userActivityCountService;
+        this.boardCache = boardCache;
+        this.transactionTemplate = transactionTemplate;
+        this.writeBehind = writeBehind;
+        this.batchSize = batchSize;
+    }
+
+    // like 행 insert/delete 직후 호출 (delta: +1 / -1)
+    // 자기 글에 누른 좋아요는 받은 좋아요 수에 포함하지 않음
+    public void apply(Long boardId, Long authorId, Long likerId, int delta) {
+        boolean countReceived = !authorId.equals(likerId);
+
+        if (!writeBehind) {
+            boardMapper.updateLikeCount(boardId, delta);
+            if (countReceived) {
+                receivedLikeCounter.add(authorId, delta);
+            }
+            userActivityCountService.addLike(likerId, delta);
+            boardCache.evict(boardId);
+            return;
+        }
+
+        // like 행이 롤백되면 변화량도 버려야 하므로 커밋 이후에 누적
+        AfterCommit.run(() -> {
+            swapLock.readLock().lock();
+            try {
+                pending.board.computeIfAbsent(boardId, id -> new LongAdder()).add(delta);
+                if (countReceived) {
+                    pending.received.computeIfAbsent(authorId, id -> new LongAdder()).add(delta);
+                    pending.boardReceived.computeIfAbsent(boardId, id -> new LongAdder()).add(delta);
+                }
+                pending.liker.computeIfAbsent(likerId, id -> new LongAdder()).add(delta);
+            } finally {
+                swapLock.readLock().unlock();
+            }
+        });
+    }
+
+    // 게시글 삭제 트랜잭션에서 board/user 행을 잠그기 전에 호출 (flush 가 행 잠금을 기다리며 flushLock 을 쥐고 있을 수 있음)
+    // 이 게시글의 반영 대기 변화량을 꺼냄 => 지워진 게시글에 flush 하지 않음
+    // 작성자 받은 좋아요 쪽 변화량은 그대로 flush 되므로, 반환값(그 중 작성자 몫)만큼 DB 값과 함께 빼야 맞음
+    // 트랜잭션이 롤백되면 꺼낸 변화량을 되돌림
+    public long drainBoard(Long boardId) {
+        if (!writeBehind) {
+            return 0;
+        }
+
+        LongAdder board;
+        LongAdder received;
+        // flushLock 을 쥐면 flush 중인 변화량(flushing)은 없음 => pending 만 보면 됨
+        flushLock.writeLock().lock();
+        try {
+            swapLock.writeLock().lock();
+            try {
+                board = pending.board.remove(boardId);
+                received = pending.boardReceived.remove(boardId);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        long boardDelta = board == null ? 0 : board.sum();
+        long receivedDelta = received == null ? 0 : received.sum();
+        if ((boardDelta != 0 || receivedDelta != 0) && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(boardId, boardDelta, receivedDelta);
+                    }
+                }
+            });
+        }
+        return receivedDelta;
+    }
+
+    // DB에 반영된 값 + 아직 반영 안 된 변화량
+    public int getLikeCount(Long boardId) {
+        if (!writeBehind) {
+            return (int) Math.max(boardMapper.getLikeCount(boardId), 0);
+        }
+
+        flushLock.readLock().lock();
+        try {
+            long count = boardMapper.getLikeCount(boardId);
+            count += pendingDelta(pending, boardId);
+            count += pendingDelta(flushing, boardId);
+            return (int) Math.max(count, 0);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    // 작성자별 받은 좋아요 중 아직 DB 에 반영 안 된 변화량 (0 이면 빠짐)
+    // DB 값을 먼저 읽고 이걸 더하면, 그 사이 flush 가 커밋돼도 적게 셀 뿐 두 번 세지 않음
+    public Map<Long, Long> pendingReceived(Collection<Long> userIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (!writeBehind) {
+            return result;
+        }
+
+        flushLock.readLock().lock();
+        try {
+            for (Long userId : userIds) {
+                long delta = receivedDelta(pending, userId) + receivedDelta(flushing, userId);
+                if (delta != 0) {
+                    result.put(userId, delta);
+                }
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${board.like.flush-interval}")
+    public void flush() {
+        if (writeBehind) {
+            flushPending();
+        }
+    }
+
+    // 모두 반영했을 때만 정상 종료로 기록 => 다음 시작 시 재계산 생략
+    @PreDestroy
+    public void shutdown() {
+        if (!writeBehind || !flushPending()) {
+            return;
+        }
+        try {
+            counterStateMapper.upsertClean(STATE_NAME, true);
+        } catch (RuntimeException e) {
+            log.warn("like counter clean shutdown not recorded, counters will be recounted on next start", e);
+        }
+    }
+
+    // 반영에 성공했거나 반영할 것이 없으면 true
+    private boolean flushPending() {
+        List<CounterDelta> boardDeltas;
+        flushLock.writeLock().lock();
+        try {
+            Pending drained;
+            swapLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    return true;
+                }
+                drained = pending;
+                flushing = drained;
+                pending = new Pending();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            boardDeltas = toDeltas(drained.board);
+            List<CounterDelta> receivedDeltas = toDeltas(drained.received);
+            List<CounterDelta> likerDeltas = toDeltas(drained.liker);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (int i = 0; i < boardDeltas.size(); i += batchSize) {
+                        boardMapper.updateLikeCountBatch(boardDeltas.subList(i, Math.min(i + batchSize, boardDeltas.size())));
+                    }
+                    for (int i = 0; i < receivedDeltas.size(); i += batchSize) {
+                        receivedLikeCounter.addAll(receivedDeltas.subList(i, Math.min(i + batchSize, receivedDeltas.size())));
+                    }
+                    for (int i = 0; i < likerDeltas.size(); i += batchSize) {
+                        userActivityCountService.addLikeAll(likerDeltas.subList(i, Math.min(i + batchSize, likerDeltas.size())));
+                    }
+                });
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 flush에서 다시 시도
+                log.warn("like counter flush failed, {} boards / {} authors / {} likers deferred",
+                        boardDeltas.size(), receivedDeltas.size(), likerDeltas.size(), e);
+                requeue(drained);
+                return false;
+            } finally {
+                flushing = null;
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+
+        boardDeltas.forEach(d -> boardCache.evict(d.getId()));
+        return true;
+    }
+
+    // 이전 실행이 반영하지 못한 변화량을 남기고 종료됐을 수 있으면(정상 종료 기록 없음) 요청을 받기 전에 like 테이블 기준으로 재계산
+    // 시작하면서 기록을 지움 => 이번 실행이 비정상 종료되면 다음 시작 시 재계산
+    @PostConstruct
+    public void recover() {
+        if (!writeBehind) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            boolean recounted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                boolean clean = counterStateMapper.findClean(STATE_NAME).orElse(false);
+                if (!clean) {
+                    // 재계산은 ACTIVE 유저의 좋아요만 셈 => 진행 중인 탈퇴 작업이 같은 좋아요를 또 빼지 않게 댓글 단계로 넘김
+                    // 작업 행을 먼저 잠금 (탈퇴 후처리와 같은 순서: 작업 행 => board/user 행)
+                    int skipped = userDeletionJobMapper.skipLikePhase();
+                    if (skipped > 0) {
+                        log.info("{} user deletion jobs moved past like phase", skipped);
+                    }
+                    boardMapper.recountLikeCnt();
+                    receivedLikeCounter.reset();
+                }
+                counterStateMapper.upsertClean(STATE_NAME, false);
+                return !clean;
+            }));
+            if (recounted) {
+                log.info("like counters recounted from like table in {}ms", System.currentTimeMillis() - start);
+            }
+        } catch (RuntimeException e) {
+            log.error("like counter recount failed, counters may drift until next restart", e);
+        }
+    }
+
+    private void requeue(Pending drained) {
+        swapLock.readLock().lock();
+        try {
+            drained.board.forEach((id, adder) -> pending.board.computeIfAbsent(id, k -> new LongAdder()).add(adder.sum()));
+            drained.received.forEach((id, adder) -> pending.received.computeIfAbsent(id, k -> new LongAdder()).add(adder.sum()));
+            drained.boardReceived.forEach((id, adder) -> pending.boardReceived.computeIfAbsent(id, k -> new LongAdder()).add(adder.sum()));
+            drained.liker.forEach((id, adder) -> pending.liker.computeIfAbsent(id, k -> new LongAdder()).add(adder.sum()));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void restore(Long boardId, long boardDelta, long receivedDelta) {
+        swapLock.readLock().lock();
+        try {
+            pending.board.computeIfAbsent(boardId, k -> new LongAdder()).add(boardDelta);
+            pending.boardReceived.computeIfAbsent(boardId, k -> new LongAdder()).add(receivedDelta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static long pendingDelta(Pending source, Long boardId) {
+        if (source == null) {
+            return 0;
+        }
+        LongAdder adder = source.board.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static long receivedDelta(Pending source, Long userId) {
+        if (source == null) {
+            return 0;
+        }
+        LongAdder adder = source.received.get(userId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private static List<CounterDelta> toDeltas(Map<Long, LongAdder> source) {
+        List<CounterDelta> deltas = new ArrayList<>(source.size());
+        source.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.add(new CounterDelta(id, delta));
+            }
+        });
+        return deltas;
+    }
+
+    private static class Pending {
+        final Map<Long, LongAdder> board = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> received = new ConcurrentHashMap<>();
+        // received 중 게시글별 몫 (따로 flush 하지 않음, 게시글 삭제 시 작성자에게서 더 뺄 양)
+        final Map<Long, LongAdder> boardReceived = new ConcurrentHashMap<>();
+        // 좋아요를 누른 유저 id => delta
+        final Map<Long, LongAdder> liker = new ConcurrentHashMap<>();
+
+        boolean isEmpty() {
+            return board.isEmpty() && received.isEmpty() && liker.isEmpty();
+        }
+    }
+}
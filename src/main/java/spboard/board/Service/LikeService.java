@@ -1,88 +1,92 @@
 package spboard.board.Service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import spboard.board.Domain.entity.Board;
-import spboard.board.Domain.entity.User;
-import spboard.board.Repository.BoardMapper;
+import spboard.board.Domain.MapperDTO.BoardMeta;
+import spboard.board.Domain.event.LikeChangedEvent;
 import spboard.board.Repository.LikeMapper;
-import spboard.board.Repository.UserMapper;
 
+import java.util.Collection;
+import java.util.Set;
+
+// 좋아요 행은 (user_id, board_id) 유니크 키에 의존 => 있는지 먼저 확인하지 않고 바로 insert/delete 후 영향받은 행 수로 판단
+// 로그인 유저 id는 인증 정보(UserDetail)에서 받아서 login_id 조인 없이 처리
 @Service
 @RequiredArgsConstructor
 public class LikeService {
 
     private final LikeMapper likeMapper;
-    private final UserMapper userMapper;
-    private final BoardMapper boardMapper;
+    private final BoardCache boardCache;
+    private final LikeCounter likeCounter;
+    private final LikedBoardSet likedBoardSet;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void addLike(String loginId, Long boardId) {
-        Board board = boardMapper.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("게시판 없음"));
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        User boardUser = board.getUser();
-
-        // 자신이 누른 좋아요가 아니라면
-        if (!boardUser.getId().equals(loginUser.getId())) {
-            userMapper.incrementReceivedLikeCount(boardUser.getId());
-        }
+    public void addLike(Long userId, String loginId, Long boardId) {
+        like(userId, loginId, findBoard(boardId));
+    }
 
-        boardMapper.incrementLikeCount(boardId);
+    @Transactional
+    public void deleteLike(Long userId, String loginId, Long boardId) {
+        unlike(userId, loginId, findBoard(boardId));
+    }
 
+    public Boolean existsLike(String loginId, Long boardId) {
+        return likedBoardSet.contains(loginId, boardId);
+    }
 
-        likeMapper.insert(loginUser.getId(), boardId);
+    // 목록 화면의 글들 중 좋아요 누른 글 id
+    public Set<Long> findLikedBoardIds(String loginId, Collection<Long> boardIds) {
+        return likedBoardSet.filterLiked(loginId, boardIds);
     }
 
+    // 현재 상태(메모리)로 먼저 시도할 쪽을 고르고, 빗나가면(다른 탭, 동시 클릭) 반대쪽 실행
+    // => 보통 좋아요 행 1문장 (write-behind 모드면 카운트는 flush 때 모아서 반영)
     @Transactional
-    public void deleteLike(String loginId, Long boardId) {
-        Board board = boardMapper.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("게시판 없음"));
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        User boardUser = board.getUser();
+    public boolean toggleLike(Long userId, String loginId, Long boardId) {
+        BoardMeta board = findBoard(boardId);
 
-        // 자신이 누른 좋아요가 아니라면
-        if(!boardUser.getId().equals(loginUser.getId())) {
-            userMapper.decrementReceivedLikeCount(boardUser.getId());
+        if (likedBoardSet.contains(loginId, boardId)) {
+            if (unlike(userId, loginId, board)) {
+                return false;
+            }
+            like(userId, loginId, board);
+            return true;
         }
 
-        boardMapper.decrementLikeCount(boardId);
-
-        likeMapper.deleteByUserLoginIdAndBoardId(loginId, boardId);
+        if (like(userId, loginId, board)) {
+            return true;
+        }
+        unlike(userId, loginId, board);
+        return false;
     }
 
-    @Transactional(readOnly = true)
-    public Boolean existsLike(String loginId, Long boardId) {
-        return likeMapper.existsByUserLoginIdAndBoardId(loginId, boardId);
+    // 이미 있으면 0행 => 카운트 변경 없음
+    private boolean like(Long userId, String loginId, BoardMeta board) {
+        if (likeMapper.insertIgnore(userId, board.boardId()) == 0) {
+            return false;
+        }
+        likeCounter.apply(board.boardId(), board.userId(), userId, 1);
+        eventPublisher.publishEvent(new LikeChangedEvent(board.userId(), userId, 1));
+        likedBoardSet.added(loginId, board.boardId());
+        return true;
     }
 
-    @Transactional // 중요! 두 작업이 하나로 묶여야 함
-    public boolean toggleLike(String loginId, Long boardId) {
-        User loginUser = userMapper.findByLoginId(loginId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        Board board = boardMapper.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-        User boardUser = board.getUser();
-
-        if (likeMapper.existsByUserLoginIdAndBoardId(loginId, boardId)) {
-            // 이미 있으면 삭제
-            likeMapper.deleteByUserLoginIdAndBoardId(loginId, boardId);
-            boardMapper.updateLikeCount(boardId, -1); // 좋아요 수 감소
-            if(!boardUser.getId().equals(loginUser.getId())) {
-                userMapper.decrementReceivedLikeCount(boardUser.getId());
-            }
-            return false; // 이제 좋아요가 아님
-        } else {
-            // 없으면 추가
-            likeMapper.insert(loginUser.getId(), boardId);
-            boardMapper.updateLikeCount(boardId, 1); // 좋아요 수 증가
-            if (!boardUser.getId().equals(loginUser.getId())) {
-                userMapper.incrementReceivedLikeCount(boardUser.getId());
-            }
-            return true; // 이제 좋아요 상태임
+    // 없으면 0행 => 카운트 변경 없음
+    private boolean unlike(Long userId, String loginId, BoardMeta board) {
+        if (likeMapper.deleteByUserIdAndBoardId(userId, board.boardId()) == 0) {
+            return false;
         }
+        likeCounter.apply(board.boardId(), board.userId(), userId, -1);
+        eventPublisher.publishEvent(new LikeChangedEvent(board.userId(), userId, -1));
+        likedBoardSet.removed(loginId, board.boardId());
+        return true;
+    }
+
+    private BoardMeta findBoard(Long boardId) {
+        return boardCache.findMeta(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("게시판 없음"));
     }
 }
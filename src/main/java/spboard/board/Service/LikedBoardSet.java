@@ -0,0 +1,104 @@
+package spboard.board.Service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.web.session.HttpSessionDestroyedEvent;
+import org.springframework.stereotype.Component;
+import spboard.board.Repository.LikeMapper;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그인 유저별로 좋아요 누른 글 id를 정렬된 long[] 로 들고 있음 (좋아요 여부 확인을 쿼리 없이 처리)
+// 처음 확인할 때 한번만 DB에서 읽고, 좋아요 추가/취소 커밋 후 갱신, 세션이 끝나면 제거
+@Component
+@RequiredArgsConstructor
+public class LikedBoardSet {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final LikeMapper likeMapper;
+    private final Map<String, long[]> likedByLoginId = new ConcurrentHashMap<>();
+
+    public boolean contains(String loginId, Long boardId) {
+        return Arrays.binarySearch(load(loginId), boardId) >= 0;
+    }
+
+    // 목록 화면처럼 여러 글을 한번에 확인할 때 사용 => 좋아요 누른 글 id만 돌려줌
+    public Set<Long> filterLiked(String loginId, Collection<Long> boardIds) {
+        long[] liked = load(loginId);
+        Set<Long> result = new HashSet<>();
+        for (Long boardId : boardIds) {
+            if (Arrays.binarySearch(liked, boardId) >= 0) {
+                result.add(boardId);
+            }
+        }
+        return result;
+    }
+
+    // 아직 읽어온 적 없는 유저면 다음 조회 때 DB에서 읽으므로 무시
+    // 배열은 통째로 교체 (읽는 쪽은 락 없이 이전/이후 배열 중 하나를 봄)
+    public void added(String loginId, Long boardId) {
+        AfterCommit.run(() -> likedByLoginId.computeIfPresent(loginId, (key, liked) -> {
+            int pos = Arrays.binarySearch(liked, boardId);
+            if (pos >= 0) {
+                return liked;
+            }
+            int insertAt = -pos - 1;
+            long[] updated = new long[liked.length + 1];
+            System.arraycopy(liked, 0, updated, 0, insertAt);
+            updated[insertAt] = boardId;
+            System.arraycopy(liked, insertAt, updated, insertAt + 1, liked.length - insertAt);
+            return updated;
+        }));
+    }
+
+    public void removed(String loginId, Long boardId) {
+        AfterCommit.run(() -> likedByLoginId.computeIfPresent(loginId, (key, liked) -> {
+            int pos = Arrays.binarySearch(liked, boardId);
+            if (pos < 0) {
+                return liked;
+            }
+            long[] updated = new long[liked.length - 1];
+            System.arraycopy(liked, 0, updated, 0, pos);
+            System.arraycopy(liked, pos + 1, updated, pos, liked.length - pos - 1);
+            return updated;
+        }));
+    }
+
+    public void evict(String loginId) {
+        likedByLoginId.remove(loginId);
+    }
+
+    // 로그아웃/세션 만료 시 제거 (HttpSessionEventPublisher 가 등록되어 있어야 이벤트가 발생)
+    @EventListener
+    public void onSessionDestroyed(HttpSessionDestroyedEvent event) {
+        for (SecurityContext context : event.getSecurityContexts()) {
+            if (context.getAuthentication() != null) {
+                evict(context.getAuthentication().getName());
+            }
+        }
+    }
+
+    // 같은 유저에 대한 갱신(computeIfPresent)은 읽어오는 동안 대기하므로 커밋된 변경이 빠지지 않음
+    private long[] load(String loginId) {
+        return likedByLoginId.computeIfAbsent(loginId, key -> {
+            List<Long> boardIds = likeMapper.findBoardIdsByUserLoginId(key);
+            if (boardIds.isEmpty()) {
+                return EMPTY;
+            }
+            long[] liked = new long[boardIds.size()];
+            for (int i = 0; i < liked.length; i++) {
+                liked[i] = boardIds.get(i);
+            }
+            Arrays.sort(liked);
+            return liked;
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Repository.UserMapper;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 로그인 유저 id/등급/상태 캐시 (loginId => LoginUser)
+// 등급/상태/프로필이 바뀌면 바로 제거하고, 다른 경로로 바뀐 경우도 TTL 이 지나면 다시 읽음
+@Component
+public class LoginUserCache {
+
+    private final UserMapper userMapper;
+    private final Cache<String, LoginUser> cache;
+
+    public LoginUserCache(UserMapper userMapper, MeterRegistry meterRegistry,
+                          @Value("${board.cache.login-user.ttl}") Duration ttl) {
+        this.userMapper = userMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "loginUser");
+    }
+
+    // 탈퇴했거나 없는 유저는 캐시하지 않음
+    public Optional<LoginUser> get(String loginId) {
+        return Optional.ofNullable(cache.get(loginId, id -> userMapper.findByLoginId(id).map(LoginUser::of).orElse(null)));
+    }
+
+    // updateRole / updateStatus / updateProfile 후 호출
+    // 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 이후에 한번 더 제거
+    public void evict(String loginId) {
+        cache.invalidate(loginId);
+        AfterCommit.run(() -> cache.invalidate(loginId));
+    }
+}
@@ -0,0 +1,52 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.Dto.BoardSummary;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.BoardMapper;
+
+import java.time.Duration;
+import java.util.List;
+
+// 카테고리별 공지(ADMIN 글) 목록 캐시
+// 공지 자체는 ADMIN이 글을 쓰거나 고치거나 지울 때, ADMIN 등급이 바뀔 때만 달라지므로 그때만 비움
+// 좋아요/댓글 수는 짧은 TTL 안에서만 늦게 반영됨
+@Component
+public class NoticeCache {
+
+    private final BoardMapper boardMapper;
+    private final Cache<BoardCategory, List<BoardSummary>> cache;
+    private final Integer maxCount;
+
+    public NoticeCache(BoardMapper boardMapper, MeterRegistry meterRegistry,
+                       @Value("${board.notice.cache-ttl}") Duration ttl,
+                       @Value("${board.notice.max-count:#{null}}") Integer maxCount) {
+        this.boardMapper = boardMapper;
+        this.maxCount = maxCount;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notice");
+    }
+
+    public List<BoardSummary> get(BoardCategory category) {
+        return cache.get(category, key -> boardMapper.findAllByCategoryAndUserRole(key, UserRole.ADMIN, maxCount));
+    }
+
+    public void evict(BoardCategory category) {
+        cache.invalidate(category);
+        AfterCommit.run(() -> cache.invalidate(category));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+        AfterCommit.run(cache::invalidateAll);
+    }
+}
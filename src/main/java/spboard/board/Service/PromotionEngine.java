@@ -0,0 +1,201 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import spboard.board.Domain.MapperDTO.PromotionState;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Domain.event.BoardWrittenEvent;
+import spboard.board.Domain.event.LikeChangedEvent;
+import spboard.board.Repository.UserMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 등급 자동 승급
+// - 가입인사 작성: BRONZE => SILVER (글 작성 트랜잭션 안에서 바로)
+// - 받은 좋아요 gold-received-likes 개 이상: SILVER => GOLD (interval 마다 모아서)
+// 좋아요 이벤트는 커밋 후 작성자별 변화량만 메모리에 더하고, 판단은 스케줄러에서 메모리 상태(PromotionState)로 함
+// => 좋아요 요청 경로에는 쿼리가 늘지 않음
+// 메모리 상태는 어긋날 수 있으므로(같은 좋아요가 DB 값과 변화량에 함께 들어감 등) 기준을 넘은 유저만 다시 읽어서 확인 후 승급
+// 세션의 권한은 AuthorityRefreshFilter 가 다음 요청에서 바꿔줌
+@Slf4j
+@Component
+public class PromotionEngine {
+
+    private final UserMapper userMapper;
+    private final BoardCountService boardCountService;
+    private final LoginUserCache loginUserCache;
+    private final LikeCounter likeCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final long goldReceivedLikes;
+    private final Counter promoted;
+
+    // 작성자 userId => 아직 반영 안 된 받은 좋아요 변화량
+    private final Map<Long, Long> pendingLikes = new ConcurrentHashMap<>();
+    // 작성자 userId => 등급 / 받은 좋아요 수 (다른 경로로 바뀐 값은 TTL 이 지나면 다시 읽음)
+    private final Cache<Long, PromotionState> states;
+
+    public PromotionEngine(UserMapper userMapper, BoardCountService boardCountService, LoginUserCache loginUserCache,
+                           LikeCounter likeCounter, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                           @Value("${board.promotion.gold-received-likes}") long goldReceivedLikes,
+                           @Value("${board.promotion.state-ttl}") Duration stateTtl) {
+        this.userMapper = userMapper;
+        this.boardCountService = boardCountService;
+        this.loginUserCache = loginUserCache;
+        this.likeCounter = likeCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.goldReceivedLikes = goldReceivedLikes;
+        this.promoted = Counter.builder("board.promotion.promoted")
+                .register(meterRegistry);
+        this.states = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stateTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, states, "promotionState");
+    }
+
+    // 자기 글에 누른 좋아요는 받은 좋아요 수에 포함하지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLikeChanged(LikeChangedEvent event) {
+        if (event.authorId().equals(event.likerId())) {
+            return;
+        }
+        pendingLikes.merge(event.authorId(), (long) event.delta(), Long::sum);
+    }
+
+    // 가입인사를 쓰면 바로 자유게시판에 쓸 수 있어야 하므로 같은 트랜잭션에서 승급
+    @EventListener
+    public void onBoardWritten(BoardWrittenEvent event) {
+        if (event.category() == BoardCategory.GREETING && event.role() == UserRole.BRONZE) {
+            promote(List.of(new PromotionState(event.userId(), event.loginId(), UserRole.BRONZE, 0)), UserRole.BRONZE, UserRole.SILVER);
+        }
+    }
+
+    // 관리자가 등급을 바꾸거나 탈퇴한 경우 메모리 상태를 버림
+    public void forget(Long userId) {
+        states.invalidate(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.promotion.interval}")
+    public void evaluate() {
+        if (pendingLikes.isEmpty()) {
+            return;
+        }
+
+        // 키별로 remove 하므로 꺼낸 뒤에 들어온 변화량은 다음 실행에서 처리
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long userId : pendingLikes.keySet()) {
+            Long delta = pendingLikes.remove(userId);
+            if (delta != null && delta != 0) {
+                deltas.put(userId, delta);
+            }
+        }
+
+        // 메모리에 없는 작성자만 한번에 읽음 (읽어온 값에 꺼낸 변화량은 더하지 않음)
+        // 꺼낸 뒤 ~ 읽기 전에 커밋된 좋아요는 읽은 값과 다음 실행의 변화량에 함께 들어가 많게 셀 수 있음 => 승급 전에 다시 확인
+        List<Long> missing = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+            PromotionState state = states.getIfPresent(entry.getKey());
+            if (state == null) {
+                missing.add(entry.getKey());
+            } else {
+                states.put(entry.getKey(), state.withReceivedLike(state.receivedLike() + entry.getValue()));
+            }
+        }
+        if (!missing.isEmpty()) {
+            try {
+                loadStates(missing).forEach(state -> states.put(state.userId(), state));
+            } catch (RuntimeException e) {
+                log.warn("promotion state load failed, {} users deferred", missing.size(), e);
+                missing.forEach(userId -> pendingLikes.merge(userId, deltas.get(userId), Long::sum));
+                return;
+            }
+        }
+
+        List<Long> crossed = new ArrayList<>();
+        for (Long userId : deltas.keySet()) {
+            PromotionState state = states.getIfPresent(userId);
+            if (isCandidate(state)) {
+                crossed.add(userId);
+            }
+        }
+        if (crossed.isEmpty()) {
+            return;
+        }
+
+        // 기준을 넘은 유저만 지금 값으로 다시 읽어서 확인 (읽은 값으로 메모리 상태도 바로잡음)
+        List<PromotionState> candidates = new ArrayList<>();
+        try {
+            for (PromotionState state : loadStates(crossed)) {
+                states.put(state.userId(), state);
+                if (isCandidate(state)) {
+                    candidates.add(state);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 메모리 상태는 그대로이므로 다음 좋아요 때 다시 후보가 됨
+            log.warn("promotion state reload failed for {} users", crossed.size(), e);
+            return;
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> promote(candidates, UserRole.SILVER, UserRole.GOLD));
+        } catch (RuntimeException e) {
+            // 메모리 상태는 그대로이므로 다음 좋아요 때 다시 후보가 됨
+            log.warn("promotion to GOLD failed for {} users", candidates.size(), e);
+        }
+    }
+
+    private boolean isCandidate(PromotionState state) {
+        return state != null && state.role() == UserRole.SILVER && state.receivedLike() >= goldReceivedLikes;
+    }
+
+    // DB 의 받은 좋아요 합계 + 아직 DB 에 반영 안 된 좋아요(write-behind 모드)
+    private List<PromotionState> loadStates(List<Long> userIds) {
+        List<PromotionState> loaded = userMapper.findPromotionStates(userIds);
+        Map<Long, Long> pending = likeCounter.pendingReceived(userIds);
+        if (pending.isEmpty()) {
+            return loaded;
+        }
+        return loaded.stream()
+                .map(state -> state.withReceivedLike(state.receivedLike() + pending.getOrDefault(state.userId(), 0L)))
+                .toList();
+    }
+
+    // 여러 유저를 한 번의 UPDATE 로 승급 (그 사이 등급이 바뀐 유저는 from 조건에 걸려 제외)
+    private void promote(List<PromotionState> users, UserRole from, UserRole to) {
+        List<Long> ids = users.stream().map(PromotionState::userId).toList();
+
+        boardCountService.detachUsers(ids);
+        int updated = userMapper.updateRoleBatch(ids, from, to);
+        boardCountService.attachUsers(ids);
+
+        for (PromotionState user : users) {
+            loginUserCache.evict(user.loginId());
+        }
+        AfterCommit.run(() -> {
+            users.forEach(user -> states.invalidate(user.userId()));
+            promoted.increment(updated);
+            log.info("promoted {} users {} => {}", updated, from, to);
+        });
+    }
+}
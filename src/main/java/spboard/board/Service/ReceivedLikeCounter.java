@@ -0,0 +1,78 @@
+package spboard.board.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.MapperDTO.CounterDelta;
+import spboard.board.Repository.UserMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 유저가 받은 좋아요 수 = user.received_like(기준값) + user_like_shard 슬롯 합계
+// 좋아요마다 user 행을 잠그지 않도록 슬롯 중 하나를 무작위로 골라 더하고, 읽을 때 합산
+// 합계는 짧게 캐시해서 등급 판단 등 자주 읽는 곳에서 매번 SUM 하지 않음
+@Component
+public class ReceivedLikeCounter {
+
+    private final UserMapper userMapper;
+    private final int slots;
+    private final Cache<Long, Long> sums;
+
+    public ReceivedLikeCounter(UserMapper userMapper, MeterRegistry meterRegistry,
+                               @Value("${board.like.received-slots}") int slots,
+                               @Value("${board.like.received-cache-ttl}") Duration ttl) {
+        this.userMapper = userMapper;
+        this.slots = slots;
+        this.sums = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sums, "receivedLike");
+    }
+
+    // 유저 행이 없으면(탈퇴 후 삭제 등) 합계가 null => 0
+    public long get(Long userId) {
+        return sums.get(userId, id -> {
+            Long sum = userMapper.sumReceivedLike(id);
+            return sum == null ? 0L : sum;
+        });
+    }
+
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        userMapper.addReceivedLike(userId, randomSlot(), delta);
+        AfterCommit.run(() -> applyToCache(userId, delta));
+    }
+
+    // write-behind flush 용 (한 번의 flush는 같은 슬롯에 몰아서 반영)
+    public void addAll(List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        userMapper.addReceivedLikeBatch(deltas, randomSlot());
+        AfterCommit.run(() -> deltas.forEach(d -> applyToCache(d.getId(), d.getDelta())));
+    }
+
+    // 기준값 재계산 후 슬롯 초기화 (like 테이블 기준 복구 시)
+    public void reset() {
+        userMapper.recountReceivedLike();
+        userMapper.deleteAllReceivedLikeSlots();
+        AfterCommit.run(sums::invalidateAll);
+    }
+
+    private void applyToCache(Long userId, long delta) {
+        sums.asMap().computeIfPresent(userId, (id, sum) -> Math.max(sum + delta, 0));
+    }
+
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(slots);
+    }
+}
@@ -0,0 +1,135 @@
+package spboard.board.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import spboard.board.Domain.Dto.BoardCntDto;
+import spboard.board.Domain.Dto.UserCntDto;
+import spboard.board.Domain.MapperDTO.CategoryRoleCount;
+import spboard.board.Domain.MapperDTO.RoleCount;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.BoardCountMapper;
+import spboard.board.Repository.UserMapper;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 홈 화면 통계 (게시글 수, 등급별 유저 수)
+// 글 수는 board_count에서, 유저 수는 등급별 GROUP BY 한번으로 계산하고
+// 만료된 스냅샷은 일단 그대로 돌려주면서 백그라운드에서 새로 계산 (stale-while-revalidate)
+@Slf4j
+@Service
+public class StatisticsService {
+
+    private final BoardCountMapper boardCountMapper;
+    private final UserMapper userMapper;
+    private final Duration ttl;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "statistics-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StatisticsService(BoardCountMapper boardCountMapper, UserMapper userMapper,
+                             @Value("${board.statistics.ttl}") Duration ttl) {
+        this.boardCountMapper = boardCountMapper;
+        this.userMapper = userMapper;
+        this.ttl = ttl;
+    }
+
+    public BoardCntDto getBoardCnt() {
+        return current().boardCnt();
+    }
+
+    public UserCntDto getUserCnt() {
+        return current().userCnt();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        // 첫 요청만 직접 계산
+        if (current == null) {
+            return load();
+        }
+
+        if (current.isExpired(ttl) && refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    log.warn("statistics refresh failed, keep serving previous snapshot", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Snapshot loaded = new Snapshot(loadBoardCnt(), loadUserCnt(), System.nanoTime());
+        snapshot.set(loaded);
+        return loaded;
+    }
+
+    private BoardCntDto loadBoardCnt() {
+        long total = 0;
+        long notice = 0;
+        Map<BoardCategory, Long> byCategory = new EnumMap<>(BoardCategory.class);
+        for (CategoryRoleCount row : boardCountMapper.sumGroupByCategoryAndRole()) {
+            total += row.cnt();
+            if (row.userRole() == UserRole.ADMIN) {
+                notice += row.cnt();
+            } else {
+                byCategory.merge(row.category(), row.cnt(), Long::sum);
+            }
+        }
+
+        return BoardCntDto.builder()
+                .totalBoardCnt(total)
+                .totalNoticeCnt(notice)
+                .totalGreetingCnt(byCategory.getOrDefault(BoardCategory.GREETING, 0L))
+                .totalFreeCnt(byCategory.getOrDefault(BoardCategory.FREE, 0L))
+                .totalGoldCnt(byCategory.getOrDefault(BoardCategory.GOLD, 0L))
+                .build();
+    }
+
+    private UserCntDto loadUserCnt() {
+        long total = 0;
+        Map<UserRole, Long> byRole = new EnumMap<>(UserRole.class);
+        for (RoleCount row : userMapper.countActiveGroupByUserRole()) {
+            total += row.cnt();
+            byRole.put(row.userRole(), row.cnt());
+        }
+
+        return UserCntDto.builder()
+                .totalUserCnt(total)
+                .totalAdminCnt(byRole.getOrDefault(UserRole.ADMIN, 0L))
+                .totalBronzeCnt(byRole.getOrDefault(UserRole.BRONZE, 0L))
+                .totalSilverCnt(byRole.getOrDefault(UserRole.SILVER, 0L))
+                .totalGoldCnt(byRole.getOrDefault(UserRole.GOLD, 0L))
+                .totalBlacklistCnt(byRole.getOrDefault(UserRole.BLACKLIST, 0L))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record Snapshot(BoardCntDto boardCnt, UserCntDto userCnt, long loadedAt) {
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - loadedAt > ttl.toNanos();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package spboard.board.Service;
+
+// 동시 업로드 수(board.upload.max-concurrent)가 가득 차서 wait-timeout 안에 자리를 얻지 못한 경우
+public class UploadBusyException extends RuntimeException {
+
+    public UploadBusyException(String message) {
+        super(message);
+    }
+}
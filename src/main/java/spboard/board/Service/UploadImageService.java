@@ -1,66 +1,235 @@
 package spboard.board.Service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.UrlResource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.util.UriUtils;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Domain.MapperDTO.BoardDeleteMeta;
 import spboard.board.Domain.entity.Board;
 import spboard.board.Domain.entity.UploadImage;
 import spboard.board.Repository.BoardMapper;
 import spboard.board.Repository.UploadImageMapper;
+import spboard.board.Service.storage.ImageStorage;
+import spboard.board.Service.storage.StagedImage;
 
-import java.io.File;
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 
+// 업로드 이미지 (저장 위치는 ImageStorage - board.storage.type 으로 local / s3 / memory)
+// 서버에 저장된 파일명 = 내용의 SHA-256 + 세대 + 확장자 => 같은 내용은 upload_image 한 행 + 객체 하나를 ref_count 로 함께 씀
+// 세대(행을 새로 만들 때마다 새 값)가 key 에 들어가므로, 마지막 참조가 삭제된 직후 같은 내용이 다시 올라와도
+// 커밋 후 실행되는 옛 객체 삭제가 새 행의 객체를 지우지 않음
+// 올린 사람이 정한 파일명(다운로드 이름)은 게시글별로 board.upload_image_name 에 저장
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class UploadImageService {
 
+    private static final Pattern ALLOWED_EXT = Pattern.compile("[A-Za-z0-9]{1,10}");
+
+    private final ImageStorage imageStorage;
     private final UploadImageMapper uploadImageMapper;
     private final BoardMapper boardMapper;
-    private final String rootPath = System.getProperty("user.dir"); // 현재 프로젝트의 루트 경로
-    private final String fileDir = rootPath + "/src/main/resources/static/upload-images/"; // 이미지 파일이 실제로 저장될 서버 내부 경로
+    private final BoardCache boardCache;
+    private final ImageRenditionService imageRenditionService;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxSizeBytes;
+    // boardId => 연결된 이미지 (다운로드 시 게시글 전체를 읽지 않도록, 이미지가 없는 게시글은 캐시하지 않음)
+    private final Cache<Long, UploadImage> boardImages;
 
-    public String getFullPath(String filename) {
-        return fileDir + filename;
+    public UploadImageService(ImageStorage imageStorage, UploadImageMapper uploadImageMapper, BoardMapper boardMapper,
+                              BoardCache boardCache, ImageRenditionService imageRenditionService,
+                              TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                              @Value("${spring.servlet.multipart.max-file-size}") DataSize maxSize) {
+        this.imageStorage = imageStorage;
+        this.uploadImageMapper = uploadImageMapper;
+        this.boardMapper = boardMapper;
+        this.boardCache = boardCache;
+        this.imageRenditionService = imageRenditionService;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSizeBytes = maxSize.toBytes();
+        this.boardImages = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boardImages, "boardImage");
     }
 
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    // 게시글 작성/수정 폼(multipart) 경로 => db 반영은 호출한 트랜잭션 안에서 (게시글 연결은 BoardService)
     public UploadImage saveImage(MultipartFile multipartFile, Board board) throws IOException {
         if (multipartFile.isEmpty()) {
             return null;
         }
 
         String originalFilename = multipartFile.getOriginalFilename(); // 클라이언트가 업로드한 실제 파일 이름
-        // 원본 파일명 -> 서버에 저장된 파일명 ( 중복 X)
-        // 파일명이 중복되지 않도록 UUID로 설정 + 확장자 유지
-        String savedFilename = UUID.randomUUID() + "." + extractExt(originalFilename);
+        checkFilename(originalFilename);
+        StagedImage staged;
+        try {
+            staged = imageStorage.stage(multipartFile.getInputStream(), multipartFile.getSize(),
+                    multipartFile.getContentType()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while uploading image", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(e.getCause());
+        }
+        return store(staged, originalFilename);
+    }
 
-        // 파일 저장
-        multipartFile.transferTo(new File(getFullPath(savedFilename)));
+    // 이미지 업로드 API 경로 => 요청 본문을 그대로 저장소로 흘려보냄 (요청 스레드는 기다리지 않음)
+    // 작성자 본인 or ADMIN 만 허용, 기존 이미지가 있으면 교체
+    public CompletableFuture<UploadImage> uploadBoardImage(Long boardId, InputStream body, long contentLength,
+                                                           String contentType, String originalFilename,
+                                                           LoginUser loginUser) {
+        checkFilename(originalFilename);
+        BoardDeleteMeta meta = boardMapper.findDeleteMetaById(boardId)
+                .orElseThrow(() -> new BoardNotFoundException(boardId));
+        if (!loginUser.id().equals(meta.userId()) && !loginUser.isAdmin()) {
+            throw new AccessDeniedException("not owner");
+        }
 
-        UploadImage uploadImage = UploadImage.builder()
-                .originalFilename(originalFilename)
-                .savedFilename(savedFilename)
-                .build();
+        return imageStorage.stage(body, contentLength, contentType)
+                .thenApply(staged -> {
+                    try {
+                        return transactionTemplate.execute(status -> attach(boardId, staged, originalFilename));
+                    } finally {
+                        imageStorage.discard(staged);
+                    }
+                });
+    }
 
-        uploadImageMapper.insert(uploadImage);
+    // 같은 내용이 이미 있으면 참조 수만 올리고 그 행의 key 를 씀, 처음 올라온 내용이면 임시 위치에서 새 세대 key 로 옮김
+    // 행 잠금은 커밋까지 유지되므로 그 사이 다른 요청이 이 행의 참조를 없애지 못함
+    private UploadImage store(StagedImage staged, String originalFilename) throws IOException {
+        try {
+            // 원본 파일명 -> 서버에 저장된 파일명 (내용의 해시 + 세대 + 확장자 유지, 이미 있는 행이면 그 행의 파일명이 유지됨)
+            String generation = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
+            UploadImage uploadImage = UploadImage.builder()
+                    .originalFilename(originalFilename)
+                    .savedFilename(staged.contentHash() + "-" + generation + "." + extractExt(originalFilename))
+                    .contentHash(staged.contentHash())
+                    .build();
 
-        return uploadImage;
+            uploadImageMapper.insertOrReference(uploadImage);
+            UploadImage saved = uploadImageMapper.findById(uploadImage.getId())
+                    .orElseThrow(() -> new IllegalStateException("upload image not found: " + uploadImage.getId()));
+
+            // 처음 올라온 내용만 저장 + 축소본 생성 (커밋 후 백그라운드)
+            if (saved.getRefCount() == 1) {
+                imageStorage.commit(staged, saved.getSavedFilename());
+                imageRenditionService.schedule(saved);
+            }
+            // 공유 행의 파일명은 처음 올린 사람의 것이므로, 이번 업로드의 파일명으로 돌려줌 (board.upload_image_name 에 저장)
+            saved.setOriginalFilename(originalFilename);
+            return saved;
+        } finally {
+            imageStorage.discard(staged);
+        }
     }
 
+    // 업로드가 끝난 뒤 db 저장 + board와 image 연결 (1:1 관계 업데이트)
+    private UploadImage attach(Long boardId, StagedImage staged, String originalFilename) {
+        try {
+            UploadImage uploadImage = store(staged, originalFilename);
+
+            // 업로드 중에 바뀌었을 수 있으므로 연결 직전에 기존 이미지를 다시 확인
+            Long previousImageId = boardMapper.findDeleteMetaById(boardId)
+                    .orElseThrow(() -> new BoardNotFoundException(boardId))
+                    .uploadImageId();
+            boardMapper.updateUploadImageId(boardId, uploadImage.getId(), uploadImage.getOriginalFilename());
+            if (previousImageId != null) {
+                // 같은 이미지를 다시 올린 경우에도 늘어난 참조 하나를 되돌리는 것과 같음
+                deleteImage(previousImageId);
+            }
+            boardCache.evict(boardId);
+            evictBoardImage(boardId);
+
+            return uploadImage;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 참조가 남아있으면 ref_count 만 줄이고, 마지막 참조일 때만 행과 객체(축소본 포함)를 삭제
+    // 같은 내용을 올리는 요청과 겹치지 않도록 행을 잠그고 확인
     @Transactional
     public void deleteImage(UploadImage uploadImage) throws IOException {
-        uploadImageMapper.deleteById(uploadImage.getId());
-        Files.deleteIfExists(Paths.get(getFullPath(uploadImage.getSavedFilename())));
+        UploadImage locked = uploadImageMapper.findByIdForUpdate(uploadImage.getId()).orElse(null);
+        if (locked == null) {
+            return;
+        }
+        if (locked.getRefCount() > 1) {
+            uploadImageMapper.decreaseRefCount(locked.getId());
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(imageRenditionService.remove(locked));
+        keys.add(locked.getSavedFilename());
+        uploadImageMapper.deleteById(locked.getId());
+        // 객체 삭제는 커밋 후에 (롤백되면 행은 남아있으므로 파일도 남아야 함)
+        // 이 key 는 지금 지운 행의 세대에만 쓰이므로, 그 사이 같은 내용으로 새 행이 생겨도 영향 없음
+        AfterCommit.run(() -> keys.forEach(this::deleteQuietly));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            imageStorage.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("image delete failed: key={}", key, e);
+        }
+    }
+
+    // 게시글 수정/삭제 시 기존 이미지 참조 해제 (게시글 전체를 읽지 않고 이미지 id로만 처리)
+    @Transactional
+    public void deleteImage(Long uploadImageId) throws IOException {
+        deleteImage(UploadImage.builder().id(uploadImageId).build());
+    }
+
+    // 요청한 width 에 맞는 축소본 파일명 (아직 없으면 원본)
+    public String resolveFilename(String filename, Integer width) {
+        return imageRenditionService.resolve(filename, width);
+    }
+
+    // 확장자는 저장 key 의 일부가 되므로 영문/숫자만 허용 (본문을 저장소로 보내기 전에 확인)
+    public boolean isAllowedFilename(String originalFilename) {
+        return originalFilename != null && ALLOWED_EXT.matcher(extractExt(originalFilename)).matches();
+    }
+
+    private void checkFilename(String originalFilename) {
+        if (!isAllowedFilename(originalFilename)) {
+            throw new IllegalArgumentException("invalid filename: " + originalFilename);
+        }
     }
 
     // 확장자 추출
@@ -69,24 +238,30 @@ public class UploadImageService {
         return originalFilename.substring(pos + 1); // "." 다음 문자부터 끝까지 잘라랩냅니다.
     }
 
-    public ResponseEntity<UrlResource> downloadImage(Long boardId) throws MalformedURLException {
-        // boardId에 해당하는 게시글이 없으면 null return
-        Board board = boardMapper.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("board not found"));
-
-        if (board == null || board.getUploadImage() == null) {
+    public ResponseEntity<Resource> downloadImage(Long boardId) throws IOException {
+        UploadImage uploadImage = boardImages.get(boardId, id -> uploadImageMapper.findByBoardId(id).orElse(null));
+        if (uploadImage == null) {
             return ResponseEntity.notFound().build();
         }
 
-        UrlResource urlResource = new UrlResource("file:" + getFullPath(board.getUploadImage().getSavedFilename())); // 서버에 저장된 실제 파일을 가리키는 객체 생성
+        // 저장소에 있는 실제 파일 (로컬 / S3 / 메모리)
+        long size = imageStorage.size(uploadImage.getSavedFilename());
+        Resource resource = new InputStreamResource(imageStorage.open(uploadImage.getSavedFilename()));
 
         // 업로드 한 파일명이 한글인 경우 아래 작업을 안해주면 한글이 깨질 수 있음
-        String encodedUploadFileName = UriUtils.encode(board.getUploadImage().getOriginalFilename(), StandardCharsets.UTF_8);
+        String encodedUploadFileName = UriUtils.encode(uploadImage.getOriginalFilename(), StandardCharsets.UTF_8);
         String contentDisposition = "attachment; filename=\"" + encodedUploadFileName + "\"";
 
         // header에 CONTENT_DISPOSITION 설정을 통해 클릭 시 다운로드 진행
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(urlResource);
+                .contentLength(size)
+                .body(resource);
+    }
+
+    // board.upload_image_id 를 바꾼 뒤 호출 (커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후 한번 더)
+    public void evictBoardImage(Long boardId) {
+        boardImages.invalidate(boardId);
+        AfterCommit.run(() -> boardImages.invalidate(boardId));
     }
 }
@@ -0,0 +1,55 @@
+package spboard.board.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import spboard.board.Domain.MapperDTO.CounterDelta;
+import spboard.board.Repository.UserMapper;
+
+import java.util.List;
+
+// 유저별 작성 글 / 댓글 / 누른 좋아요 수 (user.board_cnt / comment_cnt / like_cnt)
+// 관리자 화면에서 유저마다 COUNT(*) 서브쿼리를 돌리지 않도록 작성/삭제 시 같은 트랜잭션 안에서 갱신
+// 누른 좋아요 수는 LikeCounter 가 게시글 좋아요 수와 함께 반영 (write-behind 모드면 모아서 한번에)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityCountService {
+
+    private final UserMapper userMapper;
+
+    public void addBoard(Long userId, int delta) {
+        userMapper.addBoardCnt(userId, delta);
+    }
+
+    public void addComment(Long userId, int delta) {
+        userMapper.addCommentCnt(userId, delta);
+    }
+
+    public void addLike(Long userId, int delta) {
+        userMapper.addLikeCnt(userId, delta);
+    }
+
+    public void addLikeAll(List<CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        userMapper.addLikeCntBatch(deltas);
+    }
+
+    // 글 삭제 직전에 호출 => 글과 함께 지워지는 댓글/좋아요를 남긴 유저들의 카운트를 뺌
+    public void detachBoard(Long boardId) {
+        userMapper.subtractCommentCntByBoard(boardId);
+        userMapper.subtractLikeCntByBoard(boardId);
+    }
+
+    // 누락/중복 반영으로 생긴 오차를 board / comment / like 테이블 기준으로 다시 맞춤
+    @Scheduled(cron = "${board.count.user-activity-reconcile-cron}")
+    @Transactional
+    public void reconcile() {
+        int rows = userMapper.recountActivity();
+        log.info("user activity counts reconciled: {} rows changed", rows);
+    }
+}
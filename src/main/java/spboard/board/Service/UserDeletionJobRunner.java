@@ -0,0 +1,149 @@
+package spboard.board.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import spboard.board.Domain.MapperDTO.CounterDelta;
+import spboard.board.Domain.MapperDTO.DeletionChunkRow;
+import spboard.board.Domain.MapperDTO.UserDeletionJob;
+import spboard.board.Domain.enum_class.DeletionJobPhase;
+import spboard.board.Repository.BoardMapper;
+import spboard.board.Repository.UserDeletionJobMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+// 탈퇴 후처리 (탈퇴 유저가 누른 좋아요 / 작성한 댓글만큼 글의 카운트를 빼기)
+// 탈퇴 요청에서는 status = DELETED 와 작업 행만 남기고, 여기서 id 순서대로 chunk-size 개씩 나눠 반영
+// => 한 트랜잭션이 잡는 board 행이 chunk-size 개를 넘지 않음
+// 묶음마다 카운트 반영과 진행 위치(last_id) 저장을 같은 트랜잭션으로 처리하므로, 서버가 재시작되면 이어서 진행
+@Slf4j
+@Component
+public class UserDeletionJobRunner {
+
+    private final UserDeletionJobMapper jobMapper;
+    private final BoardMapper boardMapper;
+    private final ReceivedLikeCounter receivedLikeCounter;
+    private final BoardCache boardCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    public UserDeletionJobRunner(UserDeletionJobMapper jobMapper, BoardMapper boardMapper,
+                                 ReceivedLikeCounter receivedLikeCounter, BoardCache boardCache,
+                                 TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                                 @Value("${board.user-deletion.chunk-size}") int chunkSize,
+                                 @Value("${board.user-deletion.chunk-pause}") long chunkPauseMillis) {
+        this.jobMapper = jobMapper;
+        this.boardMapper = boardMapper;
+        this.receivedLikeCounter = receivedLikeCounter;
+        this.boardCache = boardCache;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+        Gauge.builder("board.user-deletion.pending", jobMapper, UserDeletionJobMapper::countPending)
+                .register(meterRegistry);
+    }
+
+    // 탈퇴 트랜잭션 안에서 호출 (커밋되면 다음 실행 때 처리)
+    public void enqueue(Long userId) {
+        jobMapper.insert(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${board.user-deletion.interval}")
+    public void run() {
+        for (Long userId : jobMapper.findPendingUserIds(10)) {
+            try {
+                long start = System.currentTimeMillis();
+                int chunks = 0;
+                while (processChunk(userId)) {
+                    chunks++;
+                    if (!pause()) {
+                        return;
+                    }
+                }
+                log.info("user deletion job done: userId={}, {} chunks in {}ms", userId, chunks, System.currentTimeMillis() - start);
+            } catch (RuntimeException e) {
+                // 진행 위치는 마지막으로 커밋된 묶음까지 저장되어 있으므로 다음 실행에서 이어서 처리
+                log.warn("user deletion job failed, will retry: userId={}", userId, e);
+            }
+        }
+    }
+
+    // 한 묶음 처리 후 남은 작업이 있으면 true
+    private boolean processChunk(Long userId) {
+        Boolean hasMore = transactionTemplate.execute(status -> {
+            UserDeletionJob job = jobMapper.findByUserIdForUpdate(userId).orElse(null);
+            if (job == null || job.phase() == DeletionJobPhase.DONE) {
+                return false;
+            }
+
+            if (job.phase() == DeletionJobPhase.LIKE) {
+                List<DeletionChunkRow> rows = jobMapper.findLikeChunk(userId, job.lastId(), chunkSize);
+                if (rows.isEmpty()) {
+                    jobMapper.updateProgress(userId, DeletionJobPhase.COMMENT, 0L);
+                    return true;
+                }
+                boardMapper.updateLikeCountBatch(toDeltas(rows, DeletionChunkRow::boardId));
+                // 자기 글에 누른 좋아요는 받은 좋아요 수에 포함되지 않았으므로 제외
+                receivedLikeCounter.addAll(toDeltas(rows.stream()
+                        .filter(row -> !row.authorId().equals(userId))
+                        .toList(), DeletionChunkRow::authorId));
+                jobMapper.updateProgress(userId, DeletionJobPhase.LIKE, rows.get(rows.size() - 1).id());
+                evictBoards(rows);
+                return true;
+            }
+
+            List<DeletionChunkRow> rows = jobMapper.findCommentChunk(userId, job.lastId(), chunkSize);
+            if (rows.isEmpty()) {
+                jobMapper.updateProgress(userId, DeletionJobPhase.DONE, job.lastId());
+                return false;
+            }
+            // 같은 글에 댓글을 여러 개 남겼으면 그 개수만큼 뺌
+            boardMapper.updateCommentCountBatch(toDeltas(rows, DeletionChunkRow::boardId));
+            jobMapper.updateProgress(userId, DeletionJobPhase.COMMENT, rows.get(rows.size() - 1).id());
+            evictBoards(rows);
+            return true;
+        });
+        return Boolean.TRUE.equals(hasMore);
+    }
+
+    private void evictBoards(List<DeletionChunkRow> rows) {
+        Set<Long> boardIds = new HashSet<>();
+        for (DeletionChunkRow row : rows) {
+            boardIds.add(row.boardId());
+        }
+        AfterCommit.run(() -> boardIds.forEach(boardCache::evict));
+    }
+
+    // 행마다 -1 을 key 별로 합침 (id 순서로 정렬 => 좋아요 flush 등 다른 일괄 UPDATE 와 같은 순서로 행을 잠금)
+    private static List<CounterDelta> toDeltas(List<DeletionChunkRow> rows, Function<DeletionChunkRow, Long> key) {
+        Map<Long, Long> counts = new TreeMap<>();
+        for (DeletionChunkRow row : rows) {
+            counts.merge(key.apply(row), 1L, Long::sum);
+        }
+        List<CounterDelta> deltas = new ArrayList<>(counts.size());
+        counts.forEach((id, count) -> deltas.add(new CounterDelta(id, -count)));
+        return deltas;
+    }
+
+    // 묶음 사이에 쉬어서 다른 요청(좋아요 등)이 board 행 잠금을 얻을 틈을 줌
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package spboard.board.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import spboard.board.Domain.MapperDTO.UserNameDoc;
+import spboard.board.Domain.enum_class.UserStatus;
+import spboard.board.Repository.UserMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 아이디/닉네임 메모리 인덱스
+// 1) 중복 확인: Bloom filter 에 없으면 DB 조회 없이 "없음" (있을 수도 있으면 DB 로 확인)
+// 2) 관리자 닉네임 검색: 2-gram 역색인으로 후보 유저 id 를 먼저 찾음 (LIKE '%keyword%' 대체)
+// 3) 관리자 자동완성: 아이디/닉네임 접두어 검색 (TreeMap)
+@Slf4j
+@Component
+public class UserNameIndex {
+
+    private static final int GRAM = 2;
+
+    private final UserMapper userMapper;
+    private final int maxCandidates;
+
+    // Bloom filter 는 지울 수 없으므로 탈퇴/닉네임 변경 전 값도 남음 => "있을 수도 있음" 으로만 쓰고 DB 로 확인
+    private final BloomFilter loginIds;
+    private final BloomFilter nicknames;
+
+    // 검색/자동완성 대상은 ACTIVE 유저만
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Set<Long>> nicknameGrams = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> nicknamePrefix = new TreeMap<>();
+    private final NavigableMap<String, Set<Long>> loginIdPrefix = new TreeMap<>();
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    public UserNameIndex(UserMapper userMapper,
+                         @Value("${board.user-index.expected-users}") int expectedUsers,
+                         @Value("${board.user-index.false-positive-rate}") double falsePositiveRate,
+                         @Value("${board.search.max-candidates}") int maxCandidates) {
+        this.userMapper = userMapper;
+        this.maxCandidates = maxCandidates;
+        this.loginIds = new BloomFilter(expectedUsers, falsePositiveRate);
+        this.nicknames = new BloomFilter(expectedUsers, falsePositiveRate);
+    }
+
+    // 인덱스가 준비되기 전에는 항상 DB 로 확인
+    public boolean existsLoginId(String loginId) {
+        if (ready && !loginIds.mightContain(normalize(loginId))) {
+            return false;
+        }
+        return userMapper.countByLoginId(loginId) > 0;
+    }
+
+    public boolean existsActiveLoginId(String loginId) {
+        if (ready && !loginIds.mightContain(normalize(loginId))) {
+            return false;
+        }
+        return userMapper.existsByLoginId(loginId);
+    }
+
+    public boolean existsActiveNickname(String nickname) {
+        if (ready && !nicknames.mightContain(normalize(nickname))) {
+            return false;
+        }
+        return userMapper.existsByNickname(nickname);
+    }
+
+    // 닉네임에 keyword 가 포함된 ACTIVE 유저 id 목록 (최신순)
+    // 인덱스로 답할 수 없으면(재구성 전, 1글자 검색어, 후보 과다) null => DB LIKE 검색으로 대체
+    public List<Long> searchNickname(String keyword) {
+        String query = normalize(keyword);
+        if (!ready || query.length() < GRAM) {
+            return null;
+        }
+
+        List<Long> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                Set<Long> ids = nicknameGrams.get(gram);
+                if (ids == null) {
+                    return result;
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            for (Long id : lists.get(0)) {
+                if (containsAll(lists, id) && docs.get(id).nickname().contains(query)) {
+                    result.add(id);
+                    if (result.size() > maxCandidates) {
+                        return null;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+
+    // 자동완성용: 아이디 또는 닉네임이 prefix 로 시작하는 ACTIVE 유저 id (최대 limit 개, 최신순)
+    public List<Long> suggest(String prefix, int limit) {
+        String query = normalize(prefix);
+        if (!ready || query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Long> found = new HashSet<>();
+        lock.readLock().lock();
+        try {
+            collectPrefix(nicknamePrefix, query, found);
+            collectPrefix(loginIdPrefix, query, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return found.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(limit)
+                .toList();
+    }
+
+    // 회원가입 커밋 후 호출
+    public void added(Long userId, String loginId, String nickname) {
+        loginIds.put(normalize(loginId));
+        nicknames.put(normalize(nickname));
+        put(userId, new Doc(normalize(loginId), normalize(nickname)), false);
+    }
+
+    // 닉네임 변경 커밋 후 호출
+    public void nicknameChanged(Long userId, String nickname) {
+        nicknames.put(normalize(nickname));
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.get(userId);
+            if (old != null) {
+                Doc updated = new Doc(old.loginId(), normalize(nickname));
+                unindex(userId, old);
+                index(userId, updated);
+                docs.put(userId, updated);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 탈퇴 커밋 후 호출 (검색 대상에서만 제외, Bloom filter 에는 남음)
+    public void removed(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Doc old = docs.remove(userId);
+            if (old != null) {
+                unindex(userId, old);
+            }
+            if (rebuilding) {
+                removedDuringRebuild.add(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 서버 시작 시 user 전체를 스트리밍으로 읽어 색인
+    // 재구성 중 들어온 가입/변경/탈퇴가 더 최신이므로 스트림 결과가 덮어쓰지 않게 함
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuilding = true;
+        long start = System.currentTimeMillis();
+        int[] count = {0};
+        try {
+            userMapper.streamAllForNameIndex(context -> {
+                UserNameDoc row = context.getResultObject();
+                loginIds.put(normalize(row.loginId()));
+                nicknames.put(normalize(row.nickname()));
+                if (row.status() == UserStatus.ACTIVE) {
+                    put(row.userId(), new Doc(normalize(row.loginId()), normalize(row.nickname())), true);
+                }
+                count[0]++;
+            });
+            ready = true;
+            log.info("user name index built: {} users in {}ms", count[0], System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 인덱스가 없어도 DB 조회로 동작하므로 서버는 계속 띄움
+            log.error("user name index build failed, falling back to DB lookups", e);
+        } finally {
+            rebuilding = false;
+            removedDuringRebuild.clear();
+        }
+    }
+
+    private void put(Long userId, Doc doc, boolean fromRebuild) {
+        lock.writeLock().lock();
+        try {
+            if (fromRebuild && (docs.containsKey(userId) || removedDuringRebuild.contains(userId))) {
+                return;
+            }
+            Doc old = docs.put(userId, doc);
+            if (old != null) {
+                unindex(userId, old);
+            }
+            index(userId, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long userId, Doc doc) {
+        for (String gram : grams(doc.nickname())) {
+            nicknameGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(userId);
+        }
+        nicknamePrefix.computeIfAbsent(doc.nickname(), k -> new HashSet<>()).add(userId);
+        loginIdPrefix.computeIfAbsent(doc.loginId(), k -> new HashSet<>()).add(userId);
+    }
+
+    private void unindex(Long userId, Doc doc) {
+        for (String gram : grams(doc.nickname())) {
+            removeFrom(nicknameGrams, gram, userId);
+        }
+        removeFrom(nicknamePrefix, doc.nickname(), userId);
+        removeFrom(loginIdPrefix, doc.loginId(), userId);
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> map, String key, Long userId) {
+        Set<Long> ids = map.get(key);
+        if (ids != null) {
+            ids.remove(userId);
+            if (ids.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    // [prefix, prefix + Character.MAX_VALUE) 범위의 키 = prefix 로 시작하는 키
+    private static void collectPrefix(NavigableMap<String, Set<Long>> map, String prefix, Set<Long> found) {
+        for (Set<Long> ids : map.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            found.addAll(ids);
+        }
+    }
+
+    private static boolean containsAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // DB 비교가 대소문자를 구분하지 않으므로 소문자로 맞춤
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private record Doc(String loginId, String nickname) {
+    }
+
+    // 비트 배열 + 해시 k개 (두 해시값을 섞어 k개를 만듦)
+    // 추가만 하므로 락 없이 AtomicLongArray 로 비트를 세움
+    private static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(64, m);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        void put(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(index);
+                } while ((current & mask) == 0 && !bits.compareAndSet(index, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 변형 + 마지막에 비트 섞기 (seed 로 서로 다른 해시를 만듦)
+        private static long hash(String value, long seed) {
+            long h = seed;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001B3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
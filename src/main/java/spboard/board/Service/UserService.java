@@ -4,33 +4,43 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import spboard.board.Domain.entity.User;
 import spboard.board.Domain.enum_class.UserRole;
-import spboard.board.Domain.Dto.UserCntDto;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Domain.Dto.UserDto;
 import spboard.board.Domain.enum_class.UserStatus;
-import spboard.board.Repository.BoardMapper;
 import spboard.board.Repository.CommentMapper;
 import spboard.board.Repository.LikeMapper;
 import spboard.board.Repository.UserMapper;
 import spboard.board.Domain.Dto.UserJoinRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final BCryptPasswordEncoder encoder;
+    private final PasswordEncoder encoder;
     private final UserMapper userMapper;
     private final LikeMapper likeMapper;
     private final CommentMapper commentMapper;
-    private final BoardMapper boardMapper;
+    private final BoardCountService boardCountService;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardCache boardCache;
+    private final NoticeCache noticeCache;
+    private final LikedBoardSet likedBoardSet;
+    private final ReceivedLikeCounter receivedLikeCounter;
+    private final CommentPageCache commentPageCache;
+    private final LoginUserCache loginUserCache;
+    private final UserNameIndex userNameIndex;
+    private final UserDeletionJobRunner userDeletionJobRunner;
+    private final PromotionEngine promotionEngine;
 
     public BindingResult joinValid(UserJoinRequest request, BindingResult bindingResult)
     {
@@ -42,7 +52,7 @@ public class UserService {
                     "length.exceeded",
                     "아이디가 10자가 넘습니다."
             );
-        } else if (userMapper.existsByLoginId(request.getLoginId())) {
+        } else if (userNameIndex.existsActiveLoginId(request.getLoginId())) {
             bindingResult.rejectValue(
                     "loginId",
                     "loginId.duplicate",
@@ -78,7 +88,7 @@ public class UserService {
                     "length.exceeded",
                     "닉네임이 10자가 넘습니다."
             );
-        } else if (userMapper.existsByNickname(request.getNickname())) {
+        } else if (userNameIndex.existsActiveNickname(request.getNickname())) {
             bindingResult.rejectValue(
                     "nickname",
                     "nickname.duplicate",
@@ -90,11 +100,16 @@ public class UserService {
     }
 
     public void join(UserJoinRequest request) {
-        userMapper.insert(request.toEntity(encoder.encode(request.getPassword())));
+        User user = request.toEntity(encoder.encode(request.getPassword()));
+        userMapper.insert(user);
+        AfterCommit.run(() -> userNameIndex.added(user.getId(), user.getLoginId(), user.getNickname()));
     }
 
-    public User myInfo(String loginId) {
-        return userMapper.findByLoginId(loginId).get();
+    // 화면 표시용 (비밀번호 없이 캐시된 로그인 정보 + 받은 좋아요 수)
+    public User myInfo(LoginUser loginUser) {
+        User user = loginUser.toUser();
+        user.setReceivedLikeCnt((int) receivedLikeCounter.get(loginUser.id()));
+        return user;
     }
 
     public BindingResult editValid(UserDto dto, BindingResult bindingResult, String loginId) {
@@ -114,7 +129,7 @@ public class UserService {
             bindingResult.addError(new FieldError("dto", "nickname", "닉네임이 비어있습니다."));
         } else if (dto.getNickname().length() > 10) {
             bindingResult.addError(new FieldError("dto", "nickname", "닉네임이 10자가 넘습니다."));
-        } else if (!dto.getNickname().equals(longinUser.getNickname()) && userMapper.existsByNickname(dto.getNickname())) {
+        } else if (!dto.getNickname().equals(longinUser.getNickname()) && userNameIndex.existsActiveNickname(dto.getNickname())) {
             bindingResult.addError(new FieldError("dto", "nickname", "닉네임이 중복됩니다."));
         }
 
@@ -129,6 +144,16 @@ public class UserService {
             userMapper.updateProfile(loginUser.getId(), loginUser.getPassword(), loginUser.getNickname());
         } else {
             userMapper.updateProfile(loginUser.getId(), encoder.encode(dto.getNewPassword()), dto.getNickname());
+            loginUserCache.evict(loginId);
+            AfterCommit.run(() -> {
+                boardSearchIndex.updateNickname(loginUser.getId(), dto.getNickname());
+                userNameIndex.nicknameChanged(loginUser.getId(), dto.getNickname());
+            });
+            boardCache.evictByUser(loginUser.getId());
+            commentPageCache.evictAll();
+            if (loginUser.getUserRole() == UserRole.ADMIN) {
+                noticeCache.evictAll();
+            }
         }
     }
 
@@ -139,9 +164,8 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
 
         if(encoder.matches(nowPassword, loginuser.getPassword())) {
-            //게시글 카운트 깎기
-            boardMapper.decreaseLikeCountByUser(loginId);
-            boardMapper.decreaseCommentCountByUser(loginId);
+            //게시글 카운트 깎기 => 좋아요/댓글이 많은 유저는 board 행을 한번에 많이 잠그므로 백그라운드에서 나눠서 처리
+            userDeletionJobRunner.enqueue(loginuser.getId());
 
             //실제 댓글 데이터 지우기
             // commentMapper.deleteByLoginId(loginId);
@@ -149,7 +173,20 @@ public class UserService {
             //실제 좋아요 데이터 지우기
             // likeMapper.deleteByLoginId(loginId);
 
+            boardCountService.detachUser(loginuser.getId());
             userMapper.updateStatus(loginuser.getId(), UserStatus.DELETED);
+            loginUserCache.evict(loginId);
+            boardCountService.attachUser(loginuser.getId());
+            boardCache.evictAll();
+            commentPageCache.evictAll();
+            AfterCommit.run(() -> {
+                likedBoardSet.evict(loginId);
+                userNameIndex.removed(loginuser.getId());
+                promotionEngine.forget(loginuser.getId());
+            });
+            if (loginuser.getUserRole() == UserRole.ADMIN) {
+                noticeCache.evictAll();
+            }
             return true;
         } else {
             return false;
@@ -163,6 +200,17 @@ public class UserService {
 
         int offset = page*size;
 
+        // 닉네임 인덱스로 후보를 찾을 수 있으면 id 로 조회, 아니면 LIKE 검색
+        List<Long> ids = userNameIndex.searchNickname(keyword);
+        if (ids != null) {
+            if (ids.isEmpty()) {
+                return new PageImpl<>(new ArrayList<>(), pageRequest, 0);
+            }
+            List<User> users = userMapper.findPageByIdsExcludeRole(ids, UserRole.ADMIN, offset, size);
+            long total = userMapper.countByIds(ids);
+            return new PageImpl<>(users, pageRequest, total);
+        }
+
         List<User> users = userMapper.findAllByNicknameContains(keyword, UserRole.ADMIN, offset, size);
 
         long total = userMapper.countAllByNicknameContains(keyword);
@@ -170,28 +218,36 @@ public class UserService {
         return new PageImpl<>(users, pageRequest, total);
     }
 
+    // 관리자 검색창 자동완성 (아이디/닉네임 접두어)
+    public List<User> suggest(String prefix, int limit) {
+        List<Long> ids = userNameIndex.suggest(prefix, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return userMapper.findAllByIds(ids);
+    }
+
     @Transactional
     public void changeRole(Long userId) {
         User user = userMapper.findById(userId).get();
 
+        UserRole prevRole = user.getUserRole();
         UserRole nextRole = user.changeRole();
 
+        boardCountService.detachUser(user.getId());
         userMapper.updateRole(user.getId(), nextRole);
+        loginUserCache.evict(user.getLoginId());
+        promotionEngine.forget(user.getId());
+        boardCountService.attachUser(user.getId());
 
-    }
+        // ADMIN이 되거나 ADMIN에서 내려오면 공지 목록이 달라짐
+        if (prevRole == UserRole.ADMIN || nextRole == UserRole.ADMIN) {
+            noticeCache.evictAll();
+        }
 
-    public UserCntDto getUserCnt() {
-        return UserCntDto.builder()
-                .totalUserCnt(userMapper.countActive())
-                .totalAdminCnt(userMapper.countAllByUserRole(UserRole.ADMIN))
-                .totalBronzeCnt(userMapper.countAllByUserRole(UserRole.BRONZE))
-                .totalSilverCnt(userMapper.countAllByUserRole(UserRole.SILVER))
-                .totalGoldCnt(userMapper.countAllByUserRole(UserRole.GOLD))
-                .totalBlacklistCnt(userMapper.countAllByUserRole(UserRole.BLACKLIST))
-                .build();
     }
 
     public boolean checkLoginIdDuplicate(String loginId) {
-        return userMapper.countByLoginId(loginId) > 0;
+        return userNameIndex.existsLoginId(loginId);
     }
 }
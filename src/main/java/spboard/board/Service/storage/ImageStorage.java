@@ -0,0 +1,51 @@
+package spboard.board.Service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 업로드 이미지 저장소 (board.storage.type 으로 local / s3 / memory 중 하나가 등록됨)
+// key = 저장 파일명 (내용 해시.확장자, 축소본은 해시_w300.jpg 등)
+// 업로드는 stage => commit/discard 두 단계 (내용 해시를 알아야 key 가 정해지므로)
+public interface ImageStorage {
+
+    // 본문을 읽으면서 SHA-256 을 계산해 임시 위치에 저장 (동시 업로드 수는 ImageUploadPool 로 제한)
+    CompletableFuture<StagedImage> stage(InputStream in, long contentLength, String contentType);
+
+    // 임시 위치의 내용을 key 로 옮김 (이미 있으면 덮어씀 => 같은 key 는 항상 같은 내용)
+    void commit(StagedImage staged, String key) throws IOException;
+
+    // 임시 위치 정리 (commit 후에 호출해도 됨)
+    void discard(StagedImage staged);
+
+    // 축소본 등 이미 메모리에 있는 내용 저장 (쓰는 중인 내용이 읽히지 않도록 한 번에 바뀜)
+    void put(String key, byte[] data, String contentType) throws IOException;
+
+    // 없으면 NoSuchFileException
+    InputStream open(String key) throws IOException;
+
+    // start ~ end (포함) 구간만 읽음 (Range 응답용)
+    // 기본은 앞부분을 읽어서 건너뜀 => 원격 저장소는 구간만 받아오도록 재정의
+    default InputStream open(String key, long start, long end) throws IOException {
+        InputStream in = open(key);
+        try {
+            in.skipNBytes(start);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    // 없으면 NoSuchFileException
+    long size(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    // 로컬 파일이면 경로 (응답 시 sendfile/transferTo 로 보냄)
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
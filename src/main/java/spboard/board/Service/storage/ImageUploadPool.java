@@ -0,0 +1,102 @@
+package spboard.board.Service.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spboard.board.Service.UploadBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 업로드 본문을 읽는 스레드 풀 (저장소 공통)
+// 동시 업로드는 max-concurrent 개까지 (자리가 없으면 wait-timeout 만큼 기다린 뒤 UploadBusyException)
+// 스레드 수 = 자리 수이므로 작업이 대기열에 쌓이지 않음
+@Component
+public class ImageUploadPool {
+
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final long waitTimeoutMillis;
+
+    private final Timer uploadTimer;
+    private final Counter rejected;
+
+    public ImageUploadPool(MeterRegistry meterRegistry,
+                           @Value("${board.upload.max-concurrent}") int maxConcurrent,
+                           @Value("${board.upload.wait-timeout}") Duration waitTimeout) {
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.permits = new Semaphore(maxConcurrent);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrent, r -> {
+            Thread thread = new Thread(r, "image-upload-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.uploadTimer = Timer.builder("board.upload.time")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("board.upload.rejected")
+                .register(meterRegistry);
+        Gauge.builder("board.upload.active", permits, p -> maxConcurrent - p.availablePermits())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 본문을 이 풀에서 읽는 작업 (자리를 얻은 뒤 실행하고, 끝나면 반납)
+    public <T> CompletableFuture<T> supply(Callable<T> task) {
+        Timer.Sample sample = acquire();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(task.call());
+                } catch (Exception e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    release(sample);
+                }
+            });
+        } catch (RuntimeException e) {
+            release(sample);
+            throw e;
+        }
+        return future;
+    }
+
+    // 본문 읽기를 다른 라이브러리(S3AsyncClient 등)에 맡길 때 => acquire 후 끝나면 반드시 release
+    public Timer.Sample acquire() {
+        try {
+            if (!permits.tryAcquire(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new UploadBusyException("too many concurrent uploads");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadBusyException("interrupted while waiting for upload slot");
+        }
+        return Timer.start();
+    }
+
+    public void release(Timer.Sample sample) {
+        sample.stop(uploadTimer);
+        permits.release();
+    }
+
+    public ExecutorService executor() {
+        return executor;
+    }
+}
@@ -0,0 +1,90 @@
+package spboard.board.Service.storage;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 메모리 저장소 (로컬 실행 / 테스트용, 재시작하면 사라짐)
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "memory")
+public class InMemoryImageStorage implements ImageStorage {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> staging = new ConcurrentHashMap<>();
+    private final ImageUploadPool uploadPool;
+
+    public InMemoryImageStorage(ImageUploadPool uploadPool) {
+        this.uploadPool = uploadPool;
+    }
+
+    @Override
+    public CompletableFuture<StagedImage> stage(InputStream in, long contentLength, String contentType) {
+        return uploadPool.supply(() -> {
+            try (DigestInputStream digesting = Sha256.digesting(in)) {
+                byte[] data = digesting.readAllBytes();
+                String location = UUID.randomUUID().toString();
+                staging.put(location, data);
+                return new StagedImage(location, Sha256.hex(digesting), data.length);
+            }
+        });
+    }
+
+    @Override
+    public void commit(StagedImage staged, String key) throws IOException {
+        byte[] data = staging.remove(staged.location());
+        if (data == null) {
+            throw new NoSuchFileException(staged.location());
+        }
+        objects.put(key, data);
+    }
+
+    @Override
+    public void discard(StagedImage staged) {
+        staging.remove(staged.location());
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) {
+        objects.put(key, data);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return new ByteArrayInputStream(get(key));
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        byte[] data = get(key);
+        int from = (int) Math.min(start, data.length);
+        int to = (int) Math.min(end + 1, data.length);
+        return new ByteArrayInputStream(data, from, Math.max(0, to - from));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return get(key).length;
+    }
+
+    @Override
+    public void delete(String key) {
+        objects.remove(key);
+    }
+
+    private byte[] get(String key) throws NoSuchFileException {
+        byte[] data = objects.get(key);
+        if (data == null) {
+            throw new NoSuchFileException(key);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,108 @@
+package spboard.board.Service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// 로컬 디스크 저장소 (클래스패스 밖의 root 아래)
+// key 앞 4글자로 2단계 디렉토리를 나눔 (ab/cd/abcd...jpg) => 한 디렉토리의 파일 수가 수백 개 수준으로 유지됨
+// 임시 파일(root/.tmp)에 다 쓴 뒤 rename 하므로 읽는 쪽에서 쓰다 만 파일이 보이지 않음
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+    private final Path tmpDir;
+    private final ImageUploadPool uploadPool;
+
+    public LocalImageStorage(ImageUploadPool uploadPool,
+                             @Value("${board.storage.local.root}") String root) throws IOException {
+        this.uploadPool = uploadPool;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        // 임시 파일도 같은 파일시스템에 두어야 rename 이 원자적으로 처리됨
+        this.tmpDir = Files.createDirectories(this.root.resolve(".tmp"));
+    }
+
+    @Override
+    public CompletableFuture<StagedImage> stage(InputStream in, long contentLength, String contentType) {
+        return uploadPool.supply(() -> {
+            Path tmp = Files.createTempFile(tmpDir, "upload-", ".tmp");
+            try (DigestInputStream digesting = Sha256.digesting(in)) {
+                long size = Files.copy(digesting, tmp, StandardCopyOption.REPLACE_EXISTING);
+                return new StagedImage(tmp.toString(), Sha256.hex(digesting), size);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public void commit(StagedImage staged, String key) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(Paths.get(staged.location()), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void discard(StagedImage staged) {
+        try {
+            Files.deleteIfExists(Paths.get(staged.location()));
+        } catch (IOException e) {
+            log.warn("temp upload delete failed: {}", staged.location(), e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(tmpDir, "put-", ".tmp");
+        try {
+            Files.write(tmp, data);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        return Files.size(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key));
+    }
+
+    // key 는 저장 파일명만 허용 (root 밖을 가리키지 않도록)
+    private Path resolve(String key) {
+        if (key.length() < 5 || key.contains("/") || key.contains("\\") || key.contains("..")) {
+            throw new IllegalArgumentException("invalid image key: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+}
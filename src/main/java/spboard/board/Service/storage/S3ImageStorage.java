@@ -0,0 +1,159 @@
+package spboard.board.Service.storage;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+// S3 저장소
+// 본문은 업로드 풀 스레드가 읽는 대로 S3AsyncClient 로 보냄 (큰 파일은 part-size 단위 multipart upload)
+// => 파일 전체를 힙/임시 파일에 모으지 않고, 업로드 중 메모리는 part 버퍼 크기로 제한됨
+// 해시를 알기 전에는 key 를 정할 수 없으므로 incoming/ 아래로 올린 뒤 commit 에서 S3 안에서 복사
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "s3")
+public class S3ImageStorage implements ImageStorage {
+
+    // 해시를 알기 전 임시로 올리는 위치 (버킷 lifecycle 규칙으로 남은 것을 정리)
+    private static final String INCOMING_PREFIX = "incoming/";
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ImageUploadPool uploadPool;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public S3ImageStorage(S3Client s3Client, S3AsyncClient s3AsyncClient, ImageUploadPool uploadPool) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.uploadPool = uploadPool;
+    }
+
+    @Override
+    public CompletableFuture<StagedImage> stage(InputStream in, long contentLength, String contentType) {
+        Timer.Sample sample = uploadPool.acquire();
+
+        String incomingKey = INCOMING_PREFIX + UUID.randomUUID();
+        DigestInputStream digesting = Sha256.digesting(in);
+
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(incomingKey)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        try {
+            return s3AsyncClient.putObject(request, AsyncRequestBody.fromInputStream(digesting, contentLength, uploadPool.executor()))
+                    .whenComplete((response, e) -> {
+                        uploadPool.release(sample);
+                        if (e != null) {
+                            log.warn("s3 upload failed: key={}", incomingKey, e);
+                        }
+                    })
+                    .thenApply(response -> new StagedImage(incomingKey, Sha256.hex(digesting), contentLength));
+        } catch (RuntimeException e) {
+            uploadPool.release(sample);
+            throw e;
+        }
+    }
+
+    @Override
+    public void commit(StagedImage staged, String key) {
+        s3Client.copyObject(CopyObjectRequest.builder()
+                .sourceBucket(bucket)
+                .sourceKey(staged.location())
+                .destinationBucket(bucket)
+                .destinationKey(key)
+                .build());
+    }
+
+    @Override
+    public void discard(StagedImage staged) {
+        try {
+            delete(staged.location());
+        } catch (RuntimeException e) {
+            log.warn("s3 incoming object delete failed: key={}", staged.location(), e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(data));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return get(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    // 필요한 구간만 받아옴 (앞부분을 받아서 버리지 않음)
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        return get(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .range("bytes=" + start + "-" + end)
+                .build());
+    }
+
+    private InputStream get(GetObjectRequest request) throws IOException {
+        try {
+            return s3Client.getObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(request.key());
+        }
+    }
+
+    @Override
+    public long size(String key) throws IOException {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build()).contentLength();
+        } catch (S3Exception e) {
+            // HEAD 는 본문이 없어 NoSuchKey 대신 404 로만 옴
+            if (e.statusCode() == 404) {
+                throw new NoSuchFileException(key);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+}
@@ -0,0 +1,9 @@
+package spboard.board.Service.storage;
+
+// stage 결과 (location: 저장소마다 다른 임시 위치 - 임시 파일 경로, incoming/ key 등)
+public record StagedImage(
+        String location,
+        String contentHash,
+        long size
+) {
+}
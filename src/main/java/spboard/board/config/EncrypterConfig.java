@@ -1,16 +1,26 @@
 package spboard.board.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import spboard.board.config.auth.PooledPasswordEncoder;
+
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 public class EncrypterConfig {
 
+    // BCrypt 는 전용 스레드 풀에서 실행 (로그인 폭주 시 요청 스레드 보호)
     @Bean
-    public BCryptPasswordEncoder encoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder encoder(@Value("${board.password.strength}") int strength,
+                                   @Value("${board.password.threads}") int threads,
+                                   @Value("${board.password.queue-capacity}") int queueCapacity,
+                                   @Value("${board.password.wait-timeout}") Duration waitTimeout,
+                                   MeterRegistry meterRegistry) {
+        return new PooledPasswordEncoder(strength, threads, queueCapacity, waitTimeout, meterRegistry);
     }
 }
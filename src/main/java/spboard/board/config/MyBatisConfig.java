@@ -22,6 +22,9 @@ public class MyBatisConfig {
         PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
         sessionFactory.setMapperLocations(resolver.getResources("classpath:mapper/**/*.xml"));
 
+        // 요청당 쿼리 수 집계 (QueryBudgetFilter)
+        sessionFactory.setPlugins(new QueryCountInterceptor());
+
         return sessionFactory.getObject();
     }
 }
\ No newline at end of file
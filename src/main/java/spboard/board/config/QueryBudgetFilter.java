@@ -0,0 +1,48 @@
+package spboard.board.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// 요청당 쿼리 수가 기준을 넘으면 경고 로그 (N+1, 캐시 누락 같은 회귀를 찾기 위함)
+// 분포는 /actuator/metrics/board.request.queries 로 확인
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final int budget;
+    private final DistributionSummary queries;
+
+    public QueryBudgetFilter(MeterRegistry meterRegistry,
+                             @Value("${board.query-budget.max-per-request}") int budget) {
+        this.budget = budget;
+        this.queries = DistributionSummary.builder("board.request.queries")
+                .description("MyBatis statements executed per request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountInterceptor.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int count = QueryCountInterceptor.finish();
+            queries.record(count);
+            if (count > budget) {
+                log.warn("query budget exceeded: {} {} ran {} queries (budget {})",
+                        request.getMethod(), request.getRequestURI(), count, budget);
+            }
+        }
+    }
+}
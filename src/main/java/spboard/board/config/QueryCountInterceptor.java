@@ -0,0 +1,42 @@
+package spboard.board.config;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+// 요청 하나에서 실행된 MyBatis 쿼리 수 (QueryBudgetFilter 가 요청 시작/끝에 start/finish 호출)
+// 요청 밖(스케줄러 등)에서 실행된 쿼리는 세지 않음
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class QueryCountInterceptor implements Interceptor {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return invocation.proceed();
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static int finish() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -1,15 +1,25 @@
 package spboard.board.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
+import java.net.URI;
+
+// board.storage.type = s3 일 때만 S3 클라이언트를 만듦 (local / memory 에서는 AWS 설정이 없어도 됨)
 @Configuration
+@ConditionalOnProperty(name = "board.storage.type", havingValue = "s3")
 public class S3Config {
 
     @Value("${cloud.aws.credentials.access-key}") // 설정 파일에 있는 값을 문자열 변수에 주입(injection) 해주는 어노테이션
@@ -21,22 +31,49 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // 비우면 AWS, 값이 있으면 S3 호환 서버(MinIO, LocalStack 등)로 연결 (로컬/테스트용)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${board.upload.multipart-threshold}")
+    private DataSize multipartThreshold;
+
+    @Value("${board.upload.part-size}")
+    private DataSize partSize;
+
     @Bean
     public S3Client s3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(credentials)
-                )
-                .build();
+                );
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
 
+    // 업로드 전용 (요청 본문을 읽는 대로 part 단위로 보내므로 파일 전체를 메모리에 올리지 않음)
+    // multipart-threshold 보다 큰 파일은 part-size 단위 multipart upload
     @Bean
-    public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
-                .region(Region.AP_NORTHEAST_2)
-                .build();
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .apiCallBufferSizeInBytes(partSize.toBytes() * 2)
+                        .build());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
-}
\ No newline at end of file
+}
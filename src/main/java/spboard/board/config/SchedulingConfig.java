@@ -0,0 +1,10 @@
+package spboard.board.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(집계 보정 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -8,9 +8,13 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
-import spboard.board.Repository.UserMapper;
+import org.springframework.security.web.context.SecurityContextHolderFilter;
+import org.springframework.security.web.session.HttpSessionEventPublisher;
+import spboard.board.Service.LoginUserCache;
+import spboard.board.config.auth.AuthorityRefreshFilter;
 import spboard.board.config.auth.MyAccessDeniedHandler;
 import spboard.board.config.auth.MyAuthenticationEntryPoint;
+import spboard.board.config.auth.MyLoginFailureHandler;
 import spboard.board.config.auth.MyLoginSuccessHandler;
 import spboard.board.config.auth.MyLogoutSuccessHandler;
 
@@ -18,7 +22,7 @@ import spboard.board.config.auth.MyLogoutSuccessHandler;
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
-    private final UserMapper userMapper;
+    private final LoginUserCache loginUserCache;
 
     // 로그인하지 않은 유저들만 접근 가능한 URL
     private static final String[] anonymousUserUrl = {
@@ -31,6 +35,7 @@ public class SecurityConfig {
             "/boards/*/edit",      // boards 바로 아래 edit
             "/boards/*/delete",    // boards 바로 아래 delete
             "/likes/**",
+            "/api/images/**",
             "/users/myPage/**",
             "/users/edit",
             "/users/delete"
@@ -53,6 +58,9 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/boards/free").hasAnyAuthority("SILVER", "GOLD", "ADMIN")
                         .requestMatchers("/boards/gold/**").hasAnyAuthority("GOLD", "ADMIN")
                         .requestMatchers("/users/admin/**").hasAuthority("ADMIN")
+                        .requestMatchers("/api/users/admin/**").hasAuthority("ADMIN")
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                         .requestMatchers("/comments/**").hasAnyAuthority("BRONZE", "SILVER", "GOLD", "ADMIN")
                         .anyRequest().permitAll()
                 )
@@ -61,8 +69,8 @@ public class SecurityConfig {
                         .loginPage("/users/login")
                         .usernameParameter("loginId")
                         .passwordParameter("password")
-                        .failureUrl("/users/login?fail")
-                        .successHandler(new MyLoginSuccessHandler(userMapper))
+                        .failureHandler(new MyLoginFailureHandler())
+                        .successHandler(new MyLoginSuccessHandler(loginUserCache))
                 )
                 // 로그아웃
                 .logout(logout -> logout
@@ -71,13 +79,21 @@ public class SecurityConfig {
                         .deleteCookies("JSESSIONID")
                         .logoutSuccessHandler(new MyLogoutSuccessHandler())
                 )
+                // 등급이 바뀐 세션의 권한 갱신 (권한 검사 전에 실행)
+                .addFilterAfter(new AuthorityRefreshFilter(loginUserCache), SecurityContextHolderFilter.class)
                 // 인증/인가 예외 처리
                 .exceptionHandling(ex -> ex
-                        .accessDeniedHandler(new MyAccessDeniedHandler(userMapper))
+                        .accessDeniedHandler(new MyAccessDeniedHandler(loginUserCache))
                         .authenticationEntryPoint(new MyAuthenticationEntryPoint())
                 );
 
         return http.build();
     }
 
+    // 세션 종료 이벤트를 스프링 이벤트로 발행 (세션별 메모리 상태 정리용)
+    @Bean
+    public HttpSessionEventPublisher httpSessionEventPublisher() {
+        return new HttpSessionEventPublisher();
+    }
+
 }
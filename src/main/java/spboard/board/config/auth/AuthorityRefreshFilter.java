@@ -0,0 +1,58 @@
+package spboard.board.config.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.filter.OncePerRequestFilter;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Domain.entity.User;
+import spboard.board.Service.LoginUserCache;
+
+import java.io.IOException;
+
+// 세션에 저장된 권한(로그인 시점 등급)과 현재 등급이 다르면 세션의 인증 정보를 교체
+// => 자동 승급 / 관리자 등급 변경이 재로그인 없이 다음 요청부터 반영됨
+// 현재 등급은 LoginUserCache 에서 읽으므로 등급이 그대로인 요청에는 쿼리가 없음
+@RequiredArgsConstructor
+public class AuthorityRefreshFilter extends OncePerRequestFilter {
+
+    private final LoginUserCache loginUserCache;
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UserDetail userDetail) {
+            LoginUser loginUser = loginUserCache.get(userDetail.getUsername()).orElse(null);
+            if (loginUser != null && loginUser.role() != userDetail.getUser().getUserRole()) {
+                refresh(auth, userDetail, loginUser, request, response);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void refresh(Authentication auth, UserDetail userDetail, LoginUser loginUser,
+                         HttpServletRequest request, HttpServletResponse response) {
+        User user = userDetail.getUser();
+        user.setUserRole(loginUser.role());
+        UserDetail refreshed = new UserDetail(user);
+
+        UsernamePasswordAuthenticationToken newAuth =
+                UsernamePasswordAuthenticationToken.authenticated(refreshed, null, refreshed.getAuthorities());
+        newAuth.setDetails(auth.getDetails());
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(newAuth);
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+    }
+}
@@ -0,0 +1,40 @@
+package spboard.board.config.auth;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Service.LoginUserCache;
+
+// 컨트롤러의 LoginUser 파라미터를 현재 로그인 유저로 채움 (비로그인이면 null)
+// 세션은 남아있지만 탈퇴한 유저면 AccessDeniedException => MyAccessDeniedHandler 에서 처리
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final LoginUserCache loginUserCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.getParameterType().equals(LoginUser.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return loginUserCache.get(auth.getName())
+                .orElseThrow(() -> new AccessDeniedException("탈퇴한 유저입니다."));
+    }
+}
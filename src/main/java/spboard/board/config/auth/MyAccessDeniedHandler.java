@@ -7,23 +7,23 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.access.AccessDeniedHandler;
-import spboard.board.Domain.entity.User;
+import spboard.board.Domain.Dto.LoginUser;
 import spboard.board.Domain.enum_class.UserRole;
-import spboard.board.Repository.UserMapper;
+import spboard.board.Service.LoginUserCache;
 
 import java.io.IOException;
 import java.io.PrintWriter;
 
 @AllArgsConstructor
 public class MyAccessDeniedHandler implements AccessDeniedHandler {
-    private final UserMapper userMapper;
+    private final LoginUserCache loginUserCache;
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication(); // 현재 로그인한 사용자 정보를 가져오는 방법
-        User loginUser = null;
+        LoginUser loginUser = null;
         if (auth != null) {
-           loginUser = userMapper.findByLoginId(auth.getName()).get();
+           loginUser = loginUserCache.get(auth.getName()).orElse(null);
         }
         String requestURI = request.getRequestURI();
 
@@ -44,7 +44,7 @@ public class MyAccessDeniedHandler implements AccessDeniedHandler {
             PrintWriter pw = response.getWriter();
             pw.println("<script>alert('골드 등급 이상의 유저만 접근 가능합니다!'); location.href='/';</script>");
             pw.flush();
-        } else  if (loginUser != null && loginUser.getUserRole().equals(UserRole.BLACKLIST)){
+        } else  if (loginUser != null && loginUser.role() == UserRole.BLACKLIST){
             // 메세지 출력 후 홈으로 redirect
             response.setContentType("text/html; charset=UTF-8");
             response.setCharacterEncoding("UTF-8");
@@ -0,0 +1,21 @@
+package spboard.board.config.auth;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+
+import java.io.IOException;
+
+public class MyLoginFailureHandler implements AuthenticationFailureHandler {
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response, AuthenticationException exception) throws IOException, ServletException {
+        // 비밀번호 검증 풀이 가득 찬 경우 => 비밀번호가 틀린 것이 아니므로 따로 안내
+        if (exception instanceof PasswordHashBusyException) {
+            response.sendRedirect("/users/login?fail=busy");
+            return;
+        }
+        response.sendRedirect("/users/login?fail");
+    }
+}
@@ -10,13 +10,13 @@ import org.springframework.security.web.authentication.AuthenticationSuccessHand
 import spboard.board.Domain.entity.User;
 import spboard.board.Domain.enum_class.UserRole;
 import spboard.board.Domain.enum_class.UserStatus;
-import spboard.board.Repository.UserMapper;
+import spboard.board.Service.LoginUserCache;
 
 import java.io.IOException;
 
 @AllArgsConstructor
 public class MyLoginSuccessHandler implements AuthenticationSuccessHandler {
-    private final UserMapper userMapper;
+    private final LoginUserCache loginUserCache;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
@@ -24,9 +24,10 @@ public class MyLoginSuccessHandler implements AuthenticationSuccessHandler {
         HttpSession session = request.getSession();
         session.setMaxInactiveInterval(3600);
 
-        User loginUser = userMapper.findByLoginId(authentication.getName())
-                .orElseThrow(() -> new IllegalStateException("사용자 정보를 찾을 수 없습니다."));
-
+        // 인증할 때 읽어온 유저 정보 사용 (다시 조회하지 않음)
+        User loginUser = ((UserDetail) authentication.getPrincipal()).getUser();
+        // 새로 로그인했으므로 이전 캐시는 버리고 다음 요청에서 다시 읽음
+        loginUserCache.evict(loginUser.getLoginId());
 
         if (loginUser.getStatus() == UserStatus.DELETED) {
             session.invalidate(); // 생성된 세션 무효화
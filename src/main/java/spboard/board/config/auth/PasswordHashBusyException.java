@@ -0,0 +1,11 @@
+package spboard.board.config.auth;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// 비밀번호 해시 풀이 포화 상태일 때 (로그인 실패 처리에서 "잠시 후 다시 시도" 로 안내)
+public class PasswordHashBusyException extends AuthenticationServiceException {
+
+    public PasswordHashBusyException(String msg, Throwable cause) {
+        super(msg, cause);
+    }
+}
@@ -3,6 +3,7 @@ package spboard.board.config.auth;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import spboard.board.Repository.UserMapper;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailService implements UserDetailsService {
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserMapper userMapper;
     @Override
@@ -27,4 +28,13 @@ public class UserDetailService implements UserDetailsService {
         //Security의 세션에 유저 정보가 저장됨
         return new UserDetail(user);
     }
+
+    // 로그인 성공 시 저장된 해시의 cost 가 설정값보다 낮으면 새 해시로 교체 (PasswordEncoder.upgradeEncoding)
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((UserDetail) userDetails).getUser();
+        userMapper.updatePassword(user.getId(), newPassword);
+        user.setPassword(newPassword);
+        return new UserDetail(user);
+    }
 }
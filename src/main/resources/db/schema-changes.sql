@@ -0,0 +1,117 @@
+-- 운영 DB(todo)에 순서대로 적용해야 하는 스키마 변경 모음
+
+-- 게시글 목록 keyset(seek) 페이지네이션용 인덱스
+-- WHERE category = ? ORDER BY {정렬 컬럼} DESC, id DESC 를 인덱스 순서대로 읽기 위함
+CREATE INDEX idx_board_category_id ON todo.`board` (category, id);
+CREATE INDEX idx_board_category_created_at ON todo.`board` (category, created_at, id);
+CREATE INDEX idx_board_category_like_cnt ON todo.`board` (category, like_cnt, id);
+CREATE INDEX idx_board_category_comment_cnt ON todo.`board` (category, comment_cnt, id);
+
+-- 카테고리 x 작성자 등급 x 작성자 상태별 게시글 수
+-- 목록 화면의 COUNT(*)를 대체 (BoardCountService)
+CREATE TABLE todo.`board_count` (
+    category  VARCHAR(20) NOT NULL,
+    user_role VARCHAR(20) NOT NULL,
+    status    VARCHAR(20) NOT NULL,
+    cnt       BIGINT      NOT NULL DEFAULT 0,
+    PRIMARY KEY (category, user_role, status)
+);
+
+INSERT INTO todo.`board_count` (category, user_role, status, cnt)
+SELECT b.category, u.user_role, u.status, COUNT(*)
+FROM todo.`board` b
+JOIN todo.`user` u ON u.id = b.user_id
+GROUP BY b.category, u.user_role, u.status;
+
+-- 같은 유저가 같은 글에 좋아요를 두 번 남기지 못하도록 (좋아요 토글이 이 키에 의존)
+-- 기존 중복 행을 먼저 정리한 뒤 키 추가, 이후 like_cnt / received_like 재계산 필요 (board.like.write-behind=true 로 한번 기동)
+DELETE l1
+FROM todo.`like` l1
+JOIN todo.`like` l2 ON l1.user_id = l2.user_id AND l1.board_id = l2.board_id AND l1.id > l2.id;
+
+ALTER TABLE todo.`like` ADD UNIQUE KEY uk_like_user_board (user_id, board_id);
+
+-- 유저가 받은 좋아요 수 슬롯 (ReceivedLikeCounter)
+-- 인기 작성자의 user 행에 좋아요 UPDATE가 몰리지 않도록 슬롯 중 하나에 더하고 읽을 때 합산
+-- user 행 잠금을 피하려고 외래키는 두지 않음
+CREATE TABLE todo.`user_like_shard` (
+    user_id BIGINT  NOT NULL,
+    slot    TINYINT NOT NULL,
+    cnt     BIGINT  NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, slot)
+);
+
+-- 게시글 상세의 댓글 페이지 조회 (WHERE board_id = ? AND id > ? ORDER BY id LIMIT ?)
+CREATE INDEX idx_comment_board_id ON todo.`comment` (board_id, id);
+
+-- 유저별 작성 글 / 댓글 / 누른 좋아요 수 (UserActivityCountService)
+-- 관리자 유저 목록의 유저별 COUNT(*) 서브쿼리를 대체
+ALTER TABLE todo.`user`
+    ADD COLUMN board_cnt   INT NOT NULL DEFAULT 0,
+    ADD COLUMN comment_cnt INT NOT NULL DEFAULT 0,
+    ADD COLUMN like_cnt    INT NOT NULL DEFAULT 0;
+
+UPDATE todo.`user` u
+LEFT JOIN (SELECT user_id, COUNT(*) AS cnt FROM todo.`board` GROUP BY user_id) b ON b.user_id = u.id
+LEFT JOIN (SELECT user_id, COUNT(*) AS cnt FROM todo.`comment` GROUP BY user_id) c ON c.user_id = u.id
+LEFT JOIN (SELECT user_id, COUNT(*) AS cnt FROM todo.`like` GROUP BY user_id) l ON l.user_id = u.id
+SET u.board_cnt = COALESCE(b.cnt, 0),
+    u.comment_cnt = COALESCE(c.cnt, 0),
+    u.like_cnt = COALESCE(l.cnt, 0);
+
+-- 관리자 유저 목록 (WHERE status = 'ACTIVE' ORDER BY id DESC LIMIT ?)
+CREATE INDEX idx_user_status_id ON todo.`user` (status, id);
+
+-- 탈퇴 후처리 작업 (UserDeletionJobRunner)
+-- 탈퇴 유저의 좋아요/댓글만큼 글 카운트를 id 순서대로 나눠 빼고, 진행 위치를 last_id 에 저장
+CREATE TABLE todo.`user_deletion_job` (
+    user_id     BIGINT      NOT NULL,
+    phase       VARCHAR(20) NOT NULL,
+    last_id     BIGINT      NOT NULL DEFAULT 0,
+    created_at  DATETIME    NOT NULL,
+    updated_at  DATETIME    NOT NULL,
+    finished_at DATETIME    NULL,
+    PRIMARY KEY (user_id),
+    KEY idx_user_deletion_job_phase (phase, created_at)
+);
+
+-- 후처리의 keyset 조회 (WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?)
+CREATE INDEX idx_like_user_id ON todo.`like` (user_id, id);
+CREATE INDEX idx_comment_user_id ON todo.`comment` (user_id, id);
+
+-- 업로드 이미지 축소본 (ImageRenditionService)
+-- 업로드 후 백그라운드에서 width 별로 만들어지며, 아직 없으면 원본을 보여줌
+CREATE TABLE todo.`upload_image_rendition` (
+    upload_image_id BIGINT       NOT NULL,
+    width           INT          NOT NULL,
+    saved_filename  VARCHAR(255) NOT NULL,
+    PRIMARY KEY (upload_image_id, width)
+);
+
+-- 이미지 요청(/boards/images/{savedFilename}?w=) 의 원본 조회
+CREATE INDEX idx_upload_image_saved_filename ON todo.`upload_image` (saved_filename);
+
+-- 이미지 내용 기준 중복 제거 (같은 내용이면 upload_image 한 행 + 파일 하나를 여러 게시글이 함께 씀)
+-- 기존 행은 content_hash 가 NULL 이라 중복 제거 대상이 아니고 ref_count = 1 로 시작
+ALTER TABLE todo.`upload_image`
+    ADD COLUMN content_hash CHAR(64) NULL,
+    ADD COLUMN ref_count    INT      NOT NULL DEFAULT 1,
+    ADD UNIQUE KEY uk_upload_image_content_hash (content_hash);
+
+-- 중복 제거된 이미지는 여러 게시글이 upload_image 한 행을 함께 쓰므로, 올린 사람의 파일명은 게시글별로 저장
+ALTER TABLE todo.`board`
+    ADD COLUMN upload_image_name VARCHAR(255) NULL;
+
+UPDATE todo.`board` b
+JOIN todo.`upload_image` i ON i.id = b.upload_image_id
+SET b.upload_image_name = i.original_filename;
+
+-- 메모리 카운터 종료 상태 (LikeCounter, board.like.write-behind=true)
+-- 변화량을 모두 반영하고 정상 종료했으면 clean = 1 => 다음 시작 시 like 테이블 기준 재계산을 생략
+-- 행이 없거나 clean = 0 (비정상 종료) 이면 재계산
+CREATE TABLE todo.`counter_state` (
+    name       VARCHAR(50) NOT NULL,
+    clean      TINYINT(1)  NOT NULL DEFAULT 0,
+    updated_at DATETIME    NOT NULL,
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,237 @@
+package spboard.board.Controller;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import spboard.board.Service.storage.ImageUploadPool;
+import spboard.board.Service.storage.InMemoryImageStorage;
+import spboard.board.Service.storage.LocalImageStorage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// 이미지 응답의 캐시 / Range 처리 (저장소는 메모리, 로컬 파일 전송만 LocalImageStorage)
+class ImageFileSenderTest {
+
+    private static final String FILENAME = "abcdef.png";
+    private static final String ETAG = "\"" + FILENAME + "\"";
+    private static final byte[] DATA = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ImageUploadPool uploadPool = new ImageUploadPool(meterRegistry, 1, Duration.ofSeconds(1));
+    private ImageFileSender sender;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryImageStorage storage = new InMemoryImageStorage(uploadPool);
+        storage.put(FILENAME, DATA, "image/png");
+        sender = new ImageFileSender(storage, meterRegistry);
+    }
+
+    @Test
+    void sendsWholeFileWithCacheHeaders() throws Exception {
+        MockHttpServletResponse response = send(request(), true);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(DATA, response.getContentAsByteArray());
+        assertEquals(DATA.length, response.getContentLengthLong());
+        assertEquals("image/png", response.getContentType());
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+        assertEquals("public, max-age=31536000, immutable", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    void fallbackOriginalIsCachedShortly() throws Exception {
+        MockHttpServletResponse response = send(request(), false);
+
+        assertEquals("public, max-age=60", response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void missingFileIs404() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards/images/none.png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send("none.png", true, request, response);
+
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    void matchingIfNoneMatchIs304() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other.png\", W/" + ETAG);
+        MockHttpServletResponse response = send(request, true);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void otherIfNoneMatchSendsBody() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other.png\"");
+        MockHttpServletResponse response = send(request, true);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(DATA, response.getContentAsByteArray());
+    }
+
+    @Test
+    void closedRangeIs206() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=2-5"), true);
+
+        assertPartial(response, 2, 5);
+    }
+
+    @Test
+    void openEndedRangeRunsToEnd() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=7-"), true);
+
+        assertPartial(response, 7, 9);
+    }
+
+    @Test
+    void rangeEndPastLengthIsClamped() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=8-100"), true);
+
+        assertPartial(response, 8, 9);
+    }
+
+    @Test
+    void suffixRangeSendsLastBytes() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=-3"), true);
+
+        assertPartial(response, 7, 9);
+    }
+
+    @Test
+    void suffixLongerThanFileSendsWholeFile() throws Exception {
+        MockHttpServletResponse response = send(range("bytes=-100"), true);
+
+        assertPartial(response, 0, 9);
+    }
+
+    @Test
+    void startAfterEndIs416() throws Exception {
+        assertUnsatisfiable(send(range("bytes=5-2"), true));
+    }
+
+    @Test
+    void startPastLengthIs416() throws Exception {
+        assertUnsatisfiable(send(range("bytes=10-"), true));
+    }
+
+    @Test
+    void emptySuffixIs416() throws Exception {
+        assertUnsatisfiable(send(range("bytes=-0"), true));
+    }
+
+    // 여러 구간 / 다른 단위 / 숫자가 아닌 값은 Range 를 무시하고 전체 전송
+    @Test
+    void unsupportedRangeSendsWholeFile() throws Exception {
+        for (String range : new String[]{"bytes=0-1,4-5", "items=0-1", "bytes=a-b", "bytes=3"}) {
+            MockHttpServletResponse response = send(range(range), true);
+
+            assertEquals(200, response.getStatus(), range);
+            assertArrayEquals(DATA, response.getContentAsByteArray(), range);
+            assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+        }
+    }
+
+    @Test
+    void matchingIfRangeKeepsRange() throws Exception {
+        MockHttpServletRequest request = range("bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        MockHttpServletResponse response = send(request, true);
+
+        assertPartial(response, 0, 1);
+    }
+
+    @Test
+    void otherIfRangeSendsWholeFile() throws Exception {
+        MockHttpServletRequest request = range("bytes=0-1");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other.png\"");
+        MockHttpServletResponse response = send(request, true);
+
+        assertEquals(200, response.getStatus());
+        assertArrayEquals(DATA, response.getContentAsByteArray());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void headSendsHeadersOnly() throws Exception {
+        MockHttpServletRequest request = range("bytes=2-5");
+        request.setMethod("HEAD");
+        MockHttpServletResponse response = send(request, true);
+
+        assertEquals(206, response.getStatus());
+        assertEquals(4, response.getContentLengthLong());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    // 로컬 파일은 sendfile 을 지원하면 Tomcat 에 구간만 넘기고, 아니면 transferTo 로 직접 보냄
+    @Test
+    void localFileUsesSendfileOrTransferTo(@TempDir Path root) throws Exception {
+        LocalImageStorage storage = new LocalImageStorage(uploadPool, root.toString());
+        storage.put(FILENAME, DATA, "image/png");
+        ImageFileSender localSender = new ImageFileSender(storage, meterRegistry);
+
+        MockHttpServletRequest sendfile = range("bytes=2-5");
+        sendfile.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse sendfileResponse = new MockHttpServletResponse();
+        localSender.send(FILENAME, true, sendfile, sendfileResponse);
+
+        assertEquals(206, sendfileResponse.getStatus());
+        assertEquals(0, sendfileResponse.getContentAsByteArray().length);
+        assertEquals(storage.localPath(FILENAME).orElseThrow().toString(),
+                sendfile.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(2L, sendfile.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(6L, sendfile.getAttribute("org.apache.tomcat.sendfile.end"));
+
+        MockHttpServletResponse transferResponse = new MockHttpServletResponse();
+        localSender.send(FILENAME, true, range("bytes=2-5"), transferResponse);
+
+        assertPartial(transferResponse, 2, 5);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, boolean immutable) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        sender.send(FILENAME, immutable, request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/boards/images/" + FILENAME);
+    }
+
+    private static MockHttpServletRequest range(String range) {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, range);
+        return request;
+    }
+
+    private static void assertPartial(MockHttpServletResponse response, int start, int end) throws Exception {
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes " + start + "-" + end + "/" + DATA.length, response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(end - start + 1, response.getContentLengthLong());
+        assertArrayEquals(Arrays.copyOfRange(DATA, start, end + 1), response.getContentAsByteArray());
+    }
+
+    private static void assertUnsatisfiable(MockHttpServletResponse response) {
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */" + DATA.length, response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,163 @@
+package spboard.board.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import spboard.board.Domain.entity.Board;
+import spboard.board.Domain.entity.User;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.BoardMapper;
+import spboard.board.Repository.LikeMapper;
+import spboard.board.Repository.UserMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 한 글에 여러 유저가 동시에(같은 유저는 더블클릭처럼 두 스레드로) 좋아요 토글
+// => 중복 좋아요가 없고, like_cnt / received_like 가 like 행 수와 일치해야 함
+// 데드락으로 롤백된 토글은 다시 시도 => 모든 토글이 한 번씩 반영되므로 마지막 상태도 토글 횟수로 정해짐
+// 유저마다 토글 횟수 합을 홀수(25 + 26)로 => 끝나면 모두 좋아요 상태 (기대값이 0 이면 카운트 반영이 통째로 빠져도 통과함)
+@SpringBootTest
+class LikeServiceConcurrencyTest {
+
+    private static final int LIKERS = 16;
+    private static final int THREADS_PER_LIKER = 2;
+    // 같은 유저의 스레드 t 는 TOGGLES_PER_THREAD + t 번 토글
+    private static final int TOGGLES_PER_THREAD = 25;
+    private static final int MAX_ATTEMPTS = 10;
+
+    @Autowired LikeService likeService;
+    @Autowired LikeCounter likeCounter;
+    @Autowired LikeMapper likeMapper;
+    @Autowired BoardMapper boardMapper;
+    @Autowired UserMapper userMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private User author;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = "lk" + System.nanoTime() % 1_000_000_000L;
+        author = createUser(prefix + "a");
+        for (int i = 0; i < LIKERS; i++) {
+            createUser(prefix + "u" + i);
+        }
+
+        board = Board.builder()
+                .title("concurrency")
+                .body("concurrency")
+                .category(BoardCategory.FREE)
+                .user(author)
+                .likeCnt(0)
+                .commentCnt(0)
+                .createdAt(LocalDateTime.now())
+                .lastModifiedAt(LocalDateTime.now())
+                .build();
+        boardMapper.insert(board);
+    }
+
+    // 테스트로 만든 행은 모두 지움 (탈퇴 처리만 하면 유저 / 받은 좋아요 슬롯 행이 계속 쌓임)
+    @AfterEach
+    void tearDown() {
+        for (User user : users) {
+            likeMapper.deleteByLoginId(user.getLoginId());
+        }
+        boardMapper.deleteById(board.getId());
+        for (User user : users) {
+            jdbcTemplate.update("DELETE FROM todo.`user_like_shard` WHERE user_id = ?", user.getId());
+            jdbcTemplate.update("DELETE FROM todo.`user` WHERE id = ?", user.getId());
+        }
+    }
+
+    @Test
+    void toggleLikeKeepsCountsConsistentUnderConcurrency() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(LIKERS * THREADS_PER_LIKER);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger retried = new AtomicInteger();
+
+        for (User liker : users.subList(1, users.size())) {
+            for (int t = 0; t < THREADS_PER_LIKER; t++) {
+                int toggles = TOGGLES_PER_THREAD + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < toggles; i++) {
+                        for (int attempt = 1; ; attempt++) {
+                            try {
+                                likeService.toggleLike(liker.getId(), liker.getLoginId(), board.getId());
+                                succeeded.incrementAndGet();
+                                break;
+                            } catch (TransientDataAccessException e) {
+                                // 데드락으로 롤백된 토글은 행/카운트 모두 반영되지 않음 => 다시 시도
+                                if (attempt == MAX_ATTEMPTS) {
+                                    throw e;
+                                }
+                                retried.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        likeCounter.flush();
+
+        int togglesPerLiker = THREADS_PER_LIKER * TOGGLES_PER_THREAD + THREADS_PER_LIKER * (THREADS_PER_LIKER - 1) / 2;
+        assertEquals(1, togglesPerLiker % 2);
+        assertEquals(LIKERS * togglesPerLiker, succeeded.get());
+        assertTrue(retried.get() < succeeded.get(), "too many retries: " + retried.get());
+
+        int likeRows = 0;
+        for (User liker : users.subList(1, users.size())) {
+            long rows = likeMapper.findBoardIdsByUserLoginId(liker.getLoginId()).stream()
+                    .filter(board.getId()::equals)
+                    .count();
+            assertTrue(rows <= 1, "duplicate like for " + liker.getLoginId());
+            // 토글이 모두 한 번씩 반영됐으면 짝수 번이면 좋아요 없음, 홀수 번이면 있음
+            assertEquals(togglesPerLiker % 2, rows, "unexpected like state for " + liker.getLoginId());
+            likeRows += rows;
+        }
+
+        assertEquals(LIKERS, likeRows);
+        assertEquals(likeRows, boardMapper.getLikeCount(board.getId()));
+        assertEquals(likeRows, userMapper.findById(author.getId()).orElseThrow().getReceivedLikeCnt());
+    }
+
+    private User createUser(String loginId) {
+        User user = User.builder()
+                .loginId(loginId)
+                .password("test")
+                .nickname(loginId)
+                .createdAt(LocalDateTime.now())
+                .receivedLikeCnt(0)
+                .userRole(UserRole.SILVER)
+                .build();
+        userMapper.insert(user);
+        users.add(user);
+        return user;
+    }
+}
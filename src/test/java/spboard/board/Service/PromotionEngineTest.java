@@ -0,0 +1,155 @@
+package spboard.board.Service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spboard.board.Domain.MapperDTO.PromotionState;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Domain.event.BoardWrittenEvent;
+import spboard.board.Domain.event.LikeChangedEvent;
+import spboard.board.Repository.UserMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// 등급 자동 승급 (DB / 카운터는 mock => 어떤 값을 보고 승급하는지 확인)
+class PromotionEngineTest {
+
+    private static final long GOLD = 3;
+    private static final Long AUTHOR = 1L;
+    private static final Long LIKER = 2L;
+
+    private UserMapper userMapper;
+    private BoardCountService boardCountService;
+    private LoginUserCache loginUserCache;
+    private LikeCounter likeCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private PromotionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = mock(UserMapper.class);
+        boardCountService = mock(BoardCountService.class);
+        loginUserCache = mock(LoginUserCache.class);
+        likeCounter = mock(LikeCounter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new PromotionEngine(userMapper, boardCountService, loginUserCache, likeCounter,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                GOLD, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void greetingPromotesBronzeToSilver() {
+        engine.onBoardWritten(new BoardWrittenEvent(AUTHOR, "alice", UserRole.BRONZE, BoardCategory.GREETING));
+
+        verify(boardCountService).detachUsers(List.of(AUTHOR));
+        verify(userMapper).updateRoleBatch(List.of(AUTHOR), UserRole.BRONZE, UserRole.SILVER);
+        verify(boardCountService).attachUsers(List.of(AUTHOR));
+        verify(loginUserCache).evict("alice");
+    }
+
+    @Test
+    void otherBoardsOrRolesAreNotPromotedOnWrite() {
+        engine.onBoardWritten(new BoardWrittenEvent(AUTHOR, "alice", UserRole.BRONZE, BoardCategory.FREE));
+        engine.onBoardWritten(new BoardWrittenEvent(AUTHOR, "alice", UserRole.SILVER, BoardCategory.GREETING));
+
+        verifyNoInteractions(userMapper, boardCountService, loginUserCache);
+    }
+
+    @Test
+    void silverIsPromotedToGoldWhenCrossingThreshold() {
+        // 처음 읽은 값(2)에는 이번 좋아요가 이미 들어 있음 => 아직 기준 미만
+        when(userMapper.findPromotionStates(anyList()))
+                .thenReturn(List.of(silver(2)))
+                .thenReturn(List.of(silver(3)));
+        like(1);
+        engine.evaluate();
+        verify(userMapper, never()).updateRoleBatch(anyList(), any(), any());
+
+        // 메모리 상태 2 + 1 => 기준을 넘었으므로 다시 읽어서(3) 확인 후 승급
+        like(1);
+        engine.evaluate();
+
+        verify(userMapper).updateRoleBatch(List.of(AUTHOR), UserRole.SILVER, UserRole.GOLD);
+        verify(loginUserCache).evict("alice");
+        assertEquals(1, promotedCount());
+    }
+
+    // 메모리 상태가 많게 셌으면 다시 읽은 값으로 바로잡고 승급하지 않음
+    @Test
+    void overcountedStateIsNotPromoted() {
+        when(userMapper.findPromotionStates(anyList()))
+                .thenReturn(List.of(silver(2)))
+                .thenReturn(List.of(silver(2)));
+        like(1);
+        engine.evaluate();
+        like(1);
+        engine.evaluate();
+
+        verify(userMapper, never()).updateRoleBatch(anyList(), any(), any());
+
+        // 바로잡힌 값(2)에 이번 좋아요를 더해 다시 기준을 넘음
+        when(userMapper.findPromotionStates(anyList())).thenReturn(List.of(silver(3)));
+        like(1);
+        engine.evaluate();
+
+        verify(userMapper).updateRoleBatch(List.of(AUTHOR), UserRole.SILVER, UserRole.GOLD);
+    }
+
+    // write-behind 모드에서 아직 flush 안 된 받은 좋아요도 기준에 포함
+    @Test
+    void pendingWriteBehindLikesCountTowardThreshold() {
+        when(userMapper.findPromotionStates(anyList())).thenReturn(List.of(silver(2)));
+        when(likeCounter.pendingReceived(anyList())).thenReturn(Map.of(AUTHOR, 1L));
+
+        like(1);
+        engine.evaluate();
+
+        verify(userMapper).updateRoleBatch(List.of(AUTHOR), UserRole.SILVER, UserRole.GOLD);
+    }
+
+    @Test
+    void goldIsNotPromotedAgain() {
+        when(userMapper.findPromotionStates(anyList()))
+                .thenReturn(List.of(new PromotionState(AUTHOR, "alice", UserRole.GOLD, 10)));
+
+        like(1);
+        engine.evaluate();
+
+        verify(userMapper, never()).updateRoleBatch(anyList(), any(), any());
+    }
+
+    // 자기 글에 누른 좋아요는 받은 좋아요가 아님
+    @Test
+    void selfLikeIsIgnored() {
+        engine.onLikeChanged(new LikeChangedEvent(AUTHOR, AUTHOR, 1));
+        engine.evaluate();
+
+        verifyNoInteractions(userMapper);
+    }
+
+    private void like(int delta) {
+        engine.onLikeChanged(new LikeChangedEvent(AUTHOR, LIKER, delta));
+    }
+
+    private static PromotionState silver(long receivedLike) {
+        return new PromotionState(AUTHOR, "alice", UserRole.SILVER, receivedLike);
+    }
+
+    private double promotedCount() {
+        return meterRegistry.get("board.promotion.promoted").counter().count();
+    }
+}
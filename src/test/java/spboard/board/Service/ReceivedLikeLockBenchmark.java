@@ -0,0 +1,123 @@
+package spboard.board.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import spboard.board.Domain.entity.User;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.UserMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 한 작성자에게 좋아요가 몰릴 때 user 행 하나를 UPDATE 하는 방식과 슬롯 방식의 행 잠금 대기 시간 비교
+// 기본 test 에서는 제외, ./gradlew benchmark 로 실행 (MySQL 필요)
+@Tag("benchmark")
+@SpringBootTest
+class ReceivedLikeLockBenchmark {
+
+    private static final int THREADS = 32;
+    private static final int UPDATES_PER_THREAD = 50;
+    private static final long HOLD_MILLIS = 2; // 좋아요 트랜잭션의 나머지 작업(like 행, 글 카운트) 시간
+
+    @Autowired UserMapper userMapper;
+    @Autowired ReceivedLikeCounter receivedLikeCounter;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Value("${board.like.received-slots}") int slots;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "bm" + System.nanoTime() % 1_000_000_000L;
+        author = User.builder()
+                .loginId(loginId)
+                .password("test")
+                .nickname(loginId)
+                .createdAt(LocalDateTime.now())
+                .receivedLikeCnt(0)
+                .userRole(UserRole.SILVER)
+                .build();
+        userMapper.insert(author);
+    }
+
+    // 만든 유저 / 받은 좋아요 슬롯 행은 지움 (탈퇴 처리만 하면 실행할 때마다 쌓임)
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM todo.`user_like_shard` WHERE user_id = ?", author.getId());
+        jdbcTemplate.update("DELETE FROM todo.`user` WHERE id = ?", author.getId());
+    }
+
+    @Test
+    void compareSingleRowAndSlots() throws Exception {
+        // 슬롯 도입 전 방식 (비교용이라 운영 mapper 에는 두지 않음)
+        Result singleRow = run(() -> jdbcTemplate.update(
+                "UPDATE todo.`user` SET received_like = received_like + 1 WHERE id = ?", author.getId()));
+        Result slots = run(() -> receivedLikeCounter.add(author.getId(), 1));
+
+        System.out.printf("received_like single row : %6d ms elapsed, %6d ms row lock wait%n", singleRow.elapsedMillis, singleRow.lockWaitMillis);
+        System.out.printf("received_like %d slots      : %6d ms elapsed, %6d ms row lock wait%n", this.slots, slots.elapsedMillis, slots.lockWaitMillis);
+
+        assertEquals(2L * THREADS * UPDATES_PER_THREAD, userMapper.sumReceivedLike(author.getId()));
+    }
+
+    private Result run(Runnable update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        update.run();
+                        sleep();
+                    });
+                }
+                return null;
+            }));
+        }
+
+        long lockWaitBefore = rowLockTime();
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        executor.shutdown();
+        return new Result(elapsed, rowLockTime() - lockWaitBefore);
+    }
+
+    // 서버 전체 누적값이므로 다른 작업이 없는 DB에서 실행해야 의미 있음
+    private long rowLockTime() {
+        return jdbcTemplate.queryForObject("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock_time'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(HOLD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Result(long elapsedMillis, long lockWaitMillis) {
+    }
+}
@@ -0,0 +1,182 @@
+package spboard.board.Service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import spboard.board.Domain.Dto.LoginUser;
+import spboard.board.Domain.entity.Board;
+import spboard.board.Domain.entity.UploadImage;
+import spboard.board.Domain.entity.User;
+import spboard.board.Domain.enum_class.BoardCategory;
+import spboard.board.Domain.enum_class.UserRole;
+import spboard.board.Repository.BoardMapper;
+import spboard.board.Repository.UploadImageMapper;
+import spboard.board.Repository.UserMapper;
+import spboard.board.Service.storage.ImageStorage;
+import spboard.board.Service.storage.InMemoryImageStorage;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 이미지 업로드 API 경로 (본문 stage => 해시 key 로 commit => 게시글 연결)를 메모리 저장소로 끝까지 실행
+// 16px 이미지라 축소본(300, 1200)은 만들어지지 않음
+@SpringBootTest(properties = "board.storage.type=memory")
+class UploadImageServiceTest {
+
+    @Autowired UploadImageService uploadImageService;
+    @Autowired ImageStorage imageStorage;
+    @Autowired UploadImageMapper uploadImageMapper;
+    @Autowired BoardMapper boardMapper;
+    @Autowired UserMapper userMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private final List<Board> boards = new ArrayList<>();
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "img" + System.nanoTime() % 1_000_000_000L;
+        author = User.builder()
+                .loginId(loginId)
+                .password("test")
+                .nickname(loginId)
+                .createdAt(LocalDateTime.now())
+                .receivedLikeCnt(0)
+                .userRole(UserRole.SILVER)
+                .build();
+        userMapper.insert(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Board board : boards) {
+            uploadImageMapper.findByBoardId(board.getId()).ifPresent(image -> {
+                boardMapper.updateUploadImageId(board.getId(), null, null);
+                jdbcTemplate.update("DELETE FROM todo.`upload_image` WHERE id = ?", image.getId());
+            });
+            boardMapper.deleteById(board.getId());
+        }
+        jdbcTemplate.update("DELETE FROM todo.`user` WHERE id = ?", author.getId());
+    }
+
+    @Test
+    void uploadBoardImageStagesAndCommitsToStorage() throws Exception {
+        assertInstanceOf(InMemoryImageStorage.class, imageStorage);
+
+        Board board = createBoard();
+        byte[] png = png();
+
+        UploadImage saved = upload(board, png, "cat.png");
+
+        assertEquals(1, saved.getRefCount());
+        assertTrue(saved.getSavedFilename().startsWith(saved.getContentHash() + "-"));
+        assertTrue(saved.getSavedFilename().endsWith(".png"));
+        assertEquals(png.length, imageStorage.size(saved.getSavedFilename()));
+        try (InputStream in = imageStorage.open(saved.getSavedFilename())) {
+            assertArrayEquals(png, in.readAllBytes());
+        }
+
+        UploadImage linked = uploadImageMapper.findByBoardId(board.getId()).orElseThrow();
+        assertEquals(saved.getId(), linked.getId());
+        assertEquals("cat.png", linked.getOriginalFilename());
+    }
+
+    // 같은 내용은 행/객체를 함께 쓰지만, 다운로드 파일명은 게시글마다 올린 사람의 것
+    @Test
+    void sameContentSharesObjectButKeepsEachFilename() throws Exception {
+        Board first = createBoard();
+        Board second = createBoard();
+        byte[] png = png();
+
+        UploadImage a = upload(first, png, "a.png");
+        UploadImage b = upload(second, png, "b.png");
+
+        assertEquals(a.getId(), b.getId());
+        assertEquals(2, b.getRefCount());
+        assertEquals("a.png", uploadImageMapper.findByBoardId(first.getId()).orElseThrow().getOriginalFilename());
+        assertEquals("b.png", uploadImageMapper.findByBoardId(second.getId()).orElseThrow().getOriginalFilename());
+
+        // 한 쪽을 교체해도 다른 게시글이 쓰고 있으면 객체는 남음
+        upload(first, png(), "c.png");
+        assertEquals(png.length, imageStorage.size(a.getSavedFilename()));
+
+        // 마지막 참조까지 교체되면 커밋 후 객체 삭제
+        upload(second, png(), "d.png");
+        assertThrows(NoSuchFileException.class, () -> imageStorage.size(a.getSavedFilename()));
+
+        // 같은 내용을 다시 올리면 새 세대 key 로 저장 (옛 key 삭제와 겹치지 않음)
+        UploadImage again = upload(first, png, "e.png");
+        assertNotEquals(a.getSavedFilename(), again.getSavedFilename());
+        assertEquals(png.length, imageStorage.size(again.getSavedFilename()));
+    }
+
+    // 없는 게시글 / 저장 key 에 쓸 수 없는 확장자는 본문을 읽기 전에 거절
+    @Test
+    void rejectsUnknownBoardAndBadFilenameBeforeStaging() throws Exception {
+        LoginUser loginUser = LoginUser.of(author);
+        byte[] png = png();
+
+        ByteArrayInputStream unknownBoardBody = new ByteArrayInputStream(png);
+        assertThrows(BoardNotFoundException.class, () -> uploadImageService.uploadBoardImage(-1L,
+                unknownBoardBody, png.length, "image/png", "cat.png", loginUser));
+        assertEquals(png.length, unknownBoardBody.available());
+
+        Board board = createBoard();
+        ByteArrayInputStream badNameBody = new ByteArrayInputStream(png);
+        assertThrows(IllegalArgumentException.class, () -> uploadImageService.uploadBoardImage(board.getId(),
+                badNameBody, png.length, "image/png", "a.b/c", loginUser));
+        assertEquals(png.length, badNameBody.available());
+    }
+
+    private UploadImage upload(Board board, byte[] data, String filename) throws Exception {
+        LoginUser loginUser = LoginUser.of(author);
+        return uploadImageService.uploadBoardImage(board.getId(), new ByteArrayInputStream(data), data.length,
+                        "image/png", filename, loginUser)
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private Board createBoard() {
+        Board board = Board.builder()
+                .title("image")
+                .body("image")
+                .category(BoardCategory.FREE)
+                .user(author)
+                .likeCnt(0)
+                .commentCnt(0)
+                .createdAt(LocalDateTime.now())
+                .lastModifiedAt(LocalDateTime.now())
+                .build();
+        boardMapper.insert(board);
+        boards.add(board);
+        return board;
+    }
+
+    // 실행마다 내용이 달라야 이전 실행의 행과 중복 제거되지 않음
+    private static byte[] png() throws IOException {
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, (int) System.nanoTime());
+        image.setRGB(1, 0, (int) (System.nanoTime() >>> 24));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
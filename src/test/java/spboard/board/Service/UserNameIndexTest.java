@@ -0,0 +1,174 @@
+package spboard.board.Service;
+
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spboard.board.Domain.MapperDTO.UserNameDoc;
+import spboard.board.Domain.enum_class.UserStatus;
+import spboard.board.Repository.UserMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 아이디/닉네임 메모리 인덱스 (DB 는 mock => 인덱스가 DB 조회를 건너뛰는지 확인)
+class UserNameIndexTest {
+
+    private static final int MAX_CANDIDATES = 5;
+
+    private UserMapper userMapper;
+    private UserNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userMapper = mock(UserMapper.class);
+        index = new UserNameIndex(userMapper, 1_000, 0.01, MAX_CANDIDATES);
+    }
+
+    // Bloom filter 는 "없음" 이라고 답하면 항상 맞아야 함 => 넣은 값은 전부 DB 로 확인하러 감
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        index.rebuild();
+        for (long id = 1; id <= 2_000; id++) {
+            index.added(id, "User" + id, "Nick" + id);
+        }
+        when(userMapper.countByLoginId(anyString())).thenReturn(1);
+        when(userMapper.existsByLoginId(anyString())).thenReturn(true);
+        when(userMapper.existsByNickname(anyString())).thenReturn(true);
+
+        for (long id = 1; id <= 2_000; id++) {
+            assertTrue(index.existsLoginId("user" + id), "loginId " + id);
+            assertTrue(index.existsActiveLoginId("USER" + id), "active loginId " + id);
+            assertTrue(index.existsActiveNickname("nick" + id), "nickname " + id);
+        }
+    }
+
+    @Test
+    void unknownNameSkipsDbOnceReady() {
+        index.rebuild();
+        index.added(1L, "alice", "alice");
+
+        assertFalse(index.existsActiveNickname("definitely-not-there"));
+        verify(userMapper, never()).existsByNickname(anyString());
+    }
+
+    @Test
+    void notReadyAlwaysAsksDb() {
+        when(userMapper.countByLoginId("alice")).thenReturn(0);
+
+        assertFalse(index.existsLoginId("alice"));
+        verify(userMapper).countByLoginId("alice");
+    }
+
+    @Test
+    void searchNicknameIsNullBeforeReady() {
+        index.added(1L, "alice", "wonderland");
+
+        assertNull(index.searchNickname("wonder"));
+    }
+
+    @Test
+    void searchNicknameIsNullForOneCharacter() {
+        index.rebuild();
+        index.added(1L, "alice", "wonderland");
+
+        assertNull(index.searchNickname("w"));
+        assertNull(index.searchNickname(""));
+    }
+
+    @Test
+    void searchNicknameFindsContainingNicknamesNewestFirst() {
+        index.rebuild();
+        index.added(1L, "a1", "wonderland");
+        index.added(2L, "a2", "Underworld");
+        index.added(3L, "a3", "nothing");
+
+        assertEquals(List.of(2L, 1L), index.searchNickname("NDER"));
+        assertEquals(List.of(), index.searchNickname("zz"));
+    }
+
+    // 후보가 너무 많으면 DB LIKE 검색으로 대체
+    @Test
+    void searchNicknameIsNullWhenTooManyCandidates() {
+        index.rebuild();
+        for (long id = 1; id <= MAX_CANDIDATES + 1; id++) {
+            index.added(id, "login" + id, "same" + id);
+        }
+
+        assertNull(index.searchNickname("same"));
+    }
+
+    @Test
+    void nicknameChangedUnindexesOldNickname() {
+        index.rebuild();
+        index.added(1L, "alice", "wonderland");
+
+        index.nicknameChanged(1L, "Looking-Glass");
+
+        assertEquals(List.of(), index.searchNickname("wonder"));
+        assertEquals(List.of(1L), index.searchNickname("glass"));
+        assertEquals(List.of(), index.suggest("wond", 10));
+        assertEquals(List.of(1L), index.suggest("look", 10));
+        // 아이디로는 계속 찾음
+        assertEquals(List.of(1L), index.suggest("ali", 10));
+    }
+
+    @Test
+    void removedUnindexesUser() {
+        index.rebuild();
+        index.added(1L, "alice", "wonderland");
+        index.added(2L, "alex", "wanderer");
+
+        index.removed(1L);
+
+        assertEquals(List.of(), index.searchNickname("wonder"));
+        assertEquals(List.of(2L), index.suggest("al", 10));
+        assertEquals(List.of(2L), index.searchNickname("nder"));
+    }
+
+    @Test
+    void suggestHonoursLimit() {
+        index.rebuild();
+        index.added(1L, "alice", "a1");
+        index.added(2L, "alex", "a2");
+        index.added(3L, "albert", "a3");
+
+        assertEquals(List.of(3L, 2L), index.suggest("al", 2));
+        assertEquals(List.of(), index.suggest("al", 0));
+        assertEquals(List.of(), index.suggest("al", -1));
+    }
+
+    // 재구성은 ACTIVE 유저만 검색 대상으로 넣고, Bloom filter 에는 모두 넣음
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildIndexesActiveUsersOnly() {
+        doAnswer(invocation -> {
+            ResultHandler<UserNameDoc> handler = invocation.getArgument(0);
+            DefaultResultContext<UserNameDoc> context = new DefaultResultContext<>();
+            for (UserNameDoc row : List.of(
+                    new UserNameDoc(1L, "alice", "wonderland", UserStatus.ACTIVE),
+                    new UserNameDoc(2L, "bob", "wonderboy", UserStatus.DELETED))) {
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(userMapper).streamAllForNameIndex(any(ResultHandler.class));
+        when(userMapper.countByLoginId("bob")).thenReturn(1);
+
+        index.rebuild();
+
+        assertEquals(List.of(1L), index.searchNickname("wonder"));
+        assertTrue(index.existsLoginId("bob"));
+    }
+}
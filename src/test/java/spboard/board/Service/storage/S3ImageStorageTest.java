@@ -0,0 +1,65 @@
+package spboard.board.Service.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// S3 호환 서버(MinIO, LocalStack 등)로 endpoint 를 바꿔서 실행
+// CLOUD_AWS_S3_ENDPOINT / CLOUD_AWS_S3_BUCKET / CLOUD_AWS_CREDENTIALS_ACCESS_KEY / CLOUD_AWS_CREDENTIALS_SECRET_KEY 가 있을 때만 실행
+// ex) CLOUD_AWS_S3_ENDPOINT=http://localhost:9000 CLOUD_AWS_S3_BUCKET=board-test ... ./gradlew test
+// part-size 를 최소(5MB)로 낮춰서 6MB 본문이 multipart upload 로 올라가게 함
+@SpringBootTest(properties = {
+        "board.storage.type=s3",
+        "board.upload.multipart-threshold=5MB",
+        "board.upload.part-size=5MB"
+})
+@EnabledIfEnvironmentVariable(named = "CLOUD_AWS_S3_ENDPOINT", matches = ".+")
+class S3ImageStorageTest {
+
+    @Autowired ImageStorage imageStorage;
+
+    @Test
+    void stageCommitOpenDelete() throws Exception {
+        assertInstanceOf(S3ImageStorage.class, imageStorage);
+
+        byte[] data = new byte[6 * 1024 * 1024];
+        ThreadLocalRandom.current().nextBytes(data);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+
+        StagedImage staged = imageStorage.stage(new ByteArrayInputStream(data), data.length, "image/png")
+                .get(60, TimeUnit.SECONDS);
+        assertEquals(hash, staged.contentHash());
+        assertEquals(data.length, staged.size());
+
+        String key = hash + ".png";
+        try {
+            imageStorage.commit(staged, key);
+            imageStorage.discard(staged);
+            assertThrows(NoSuchFileException.class, () -> imageStorage.size(staged.location()));
+
+            assertEquals(data.length, imageStorage.size(key));
+            try (InputStream in = imageStorage.open(key)) {
+                assertArrayEquals(data, in.readAllBytes());
+            }
+        } finally {
+            imageStorage.delete(key);
+        }
+
+        assertThrows(NoSuchFileException.class, () -> imageStorage.size(key));
+        assertThrows(NoSuchFileException.class, () -> imageStorage.open(key));
+    }
+}